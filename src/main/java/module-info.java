@@ -29,6 +29,8 @@
 module org.burningwave.reflection {
 
     requires java.base;
+    requires java.management;
+    requires static java.instrument;
     requires static jdk.unsupported;
     requires static io.github.toolfactory.jvm;
     requires static org.burningwave.jvm;
@@ -28,70 +28,668 @@
  */
 package org.burningwave.reflection;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.ProtectionDomain;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import org.burningwave.Synchronizer;
-import org.burningwave.ThrowingBiConsumer;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanRegistrationException;
+import javax.management.ListenerNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 
+import org.burningwave.Strings;
+import org.burningwave.Throwables;
 
 
 
-class Cache {
+
+public class Cache {
 
 	public final static Cache INSTANCE;
 
 	static {
 		INSTANCE = new Cache();
+		try {
+			INSTANCE.registerMBeans();
+		} catch (Exception exc) {
+			//The platform MBean server is not usable: the statistics remain available through getStatistics
+			INSTANCE.unregisterMBeans();
+		}
 	}
 
-	final PathForResources<Constructor<?>[]> uniqueKeyForConstructorsArray;
-	final PathForResources<Field[]> uniqueKeyForFieldsArray;
-	final PathForResources<Method[]> uniqueKeyForMethodsArray;
+	final ClassValue<ClassMetadata> metadataForClass;
+	final AtomicLong epoch;
+	volatile Invalidation lastInvalidation;
+	final Cleaner cleaner;
 	final PathForResources<Collection<Constructor<?>>> uniqueKeyForConstructors;
 	final PathForResources<Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
 	final PathForResources<Collection<Field>> uniqueKeyForAllFields;
 	final PathForResources<Collection<Method>> uniqueKeyForAllMethods;
+	volatile Facade facade;
+	NotificationListener memoryPressureListener;
+	RedefinitionListener redefinitionListener;
+	final Collection<ObjectName> mBeanNames;
+
+	Cache() {
+		epoch = new AtomicLong();
+		lastInvalidation = new Invalidation(0, null, null);
+		cleaner = new Cleaner();
+		metadataForClass = new ClassValue<ClassMetadata>() {
+			@Override
+			protected ClassMetadata computeValue(Class<?> cls) {
+				return new ClassMetadata(Cache.this, cls, epoch.get(), lastInvalidation.sequence);
+			}
+		};
+		uniqueKeyForConstructors = new PathForResources<>("constructors");
+		uniqueKeyForExecutableAndMethodHandle = new PathForResources<>("executablesAndMethodHandles");
+		uniqueKeyForAllFields = new PathForResources<>("allFields");
+		uniqueKeyForAllMethods = new PathForResources<>("allMethods");
+		mBeanNames = new ArrayList<>();
+	}
+
+	public Cache setMaximumSize(long maximumNumberOfEntries) {
+		return setEviction(maximumNumberOfEntries, false);
+	}
+
+	public Cache setMaximumEstimatedSizeInBytes(long maximumEstimatedSizeInBytes) {
+		return setEviction(maximumEstimatedSizeInBytes, true);
+	}
+
+	public Cache setNumberOfStripes(int numberOfStripes) {
+		if (numberOfStripes <= 0) {
+			throw new IllegalArgumentException("Number of stripes must be greater than zero");
+		}
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			pathForResources.setNumberOfStripes(numberOfStripes);
+		}
+		return this;
+	}
+
+	//Enables, or disables with 0, a per-thread front cache with the given number of slots for the executables,
+	//the method handles and the fields. Its hits are not recorded by the statistics nor by the eviction policy
+	//and its entries keep their classes reachable until they are overwritten or the cache is cleared
+	public Cache setFrontCacheSize(int frontCacheSize) {
+		if (frontCacheSize < 0) {
+			throw new IllegalArgumentException("Front cache size must not be negative");
+		}
+		uniqueKeyForExecutableAndMethodHandle.setFrontCacheSize(frontCacheSize);
+		uniqueKeyForAllFields.setFrontCacheSize(frontCacheSize);
+		return this;
+	}
+
+	//When, after a collection, the usage of a heap memory pool exceeds the given fraction of its maximum size
+	//the cached resources and the class metadata are released. The thresholds of the memory pools are shared by
+	//the whole JVM: see HeapUsageThresholds
+	public synchronized Cache enableMemoryPressureShedding(double heapUsageThreshold) {
+		if ((heapUsageThreshold <= 0) || (heapUsageThreshold >= 1)) {
+			throw new IllegalArgumentException("Heap usage threshold must be greater than 0 and less than 1");
+		}
+		disableMemoryPressureShedding();
+		HeapUsageThresholds.request(this, heapUsageThreshold);
+		NotificationListener memoryPressureListener = (notification, handback) -> {
+			if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType()) &&
+				HeapUsageThresholds.isExceeded(
+					MemoryNotificationInfo.from((CompositeData)notification.getUserData()), heapUsageThreshold
+				)
+			) {
+				shed();
+			}
+		};
+		((NotificationEmitter)ManagementFactory.getMemoryMXBean()).addNotificationListener(memoryPressureListener, null, null);
+		this.memoryPressureListener = memoryPressureListener;
+		return this;
+	}
+
+	public synchronized Cache disableMemoryPressureShedding() {
+		NotificationListener memoryPressureListener = this.memoryPressureListener;
+		if (memoryPressureListener != null) {
+			this.memoryPressureListener = null;
+			try {
+				((NotificationEmitter)ManagementFactory.getMemoryMXBean()).removeNotificationListener(memoryPressureListener);
+			} catch (ListenerNotFoundException exc) {
+
+			}
+			HeapUsageThresholds.release(this);
+		}
+		return this;
+	}
+
+	//Copies the current entries into immutable tables that are looked up before the mutable ones. When the
+	//overflow is disabled the resources not found in them are resolved on every request and never stored.
+	//Clearing or shedding unfreezes the cache, while the invalidations also remove the entries from the frozen
+	//tables. Only the entries of classes defined by the bootstrap, platform or system class loader are frozen:
+	//the other ones stay in the segment of their class loader, which is still released when it is unloaded
+	public Cache freeze() {
+		return freeze(true);
+	}
+
+	public Cache freeze(boolean overflowEnabled) {
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			pathForResources.freeze(overflowEnabled);
+		}
+		return this;
+	}
+
+	public Cache unfreeze() {
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			pathForResources.unfreeze();
+		}
+		return this;
+	}
+
+	public Cache setUnbounded() {
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			pathForResources.setEviction(null);
+		}
+		return this;
+	}
+
+	public int invalidate(Class<?> cls) {
+		metadataForClass.remove(cls);
+		return invalidate(relatedCls -> relatedCls == cls);
+	}
+
+	//Invalidates the entries of every class redefined or retransformed through the given instrumentation and
+	//of the classes that extend or implement it. The transformers are notified before the new definition is
+	//installed: an entry resolved by another thread during the redefinition could still be stale
+	public synchronized Cache listenForRedefinitions(Instrumentation instrumentation) {
+		stopListeningForRedefinitions();
+		RedefinitionListener redefinitionListener = new RedefinitionListener(this, instrumentation);
+		instrumentation.addTransformer(redefinitionListener, instrumentation.isRetransformClassesSupported());
+		this.redefinitionListener = redefinitionListener;
+		return this;
+	}
+
+	public synchronized Cache stopListeningForRedefinitions() {
+		RedefinitionListener redefinitionListener = this.redefinitionListener;
+		if (redefinitionListener != null) {
+			this.redefinitionListener = null;
+			redefinitionListener.instrumentation.removeTransformer(redefinitionListener);
+		}
+		return this;
+	}
+
+	public int invalidate(ClassLoader classLoader) {
+		Predicate<Class<?>> classPredicate = cls -> cls.getClassLoader() == classLoader;
+		if (classLoader != null) {
+			//The predicate is retained by the invalidation chain: it must not keep alive the class loader of an
+			//undeployed module
+			WeakReference<ClassLoader> classLoaderReference = new WeakReference<>(classLoader);
+			invalidateMetadata(cls -> {
+				ClassLoader invalidatedClassLoader = classLoaderReference.get();
+				return (invalidatedClassLoader != null) && (cls.getClassLoader() == invalidatedClassLoader);
+			});
+		} else {
+			invalidateMetadata(classPredicate);
+		}
+		return invalidate(classPredicate);
+	}
+
+	public int invalidate(String packageNamePrefix) {
+		Predicate<Class<?>> classPredicate = cls -> isInPackage(cls.getName(), packageNamePrefix);
+		invalidateMetadata(classPredicate);
+		return invalidate(classPredicate);
+	}
+
+	public CompletableFuture<Void> warmUp(Collection<Class<?>> classes, boolean retrieveMethodHandles) {
+		return warmUp(classes, retrieveMethodHandles, ForkJoinPool.commonPool());
+	}
+
+	public CompletableFuture<Void> warmUp(Collection<Class<?>> classes, boolean retrieveMethodHandles, ForkJoinPool pool) {
+		Collection<CompletableFuture<Void>> warmUps = new ArrayList<>();
+		for (Class<?> cls : classes) {
+			warmUps.add(CompletableFuture.runAsync(() -> warmUp(cls, retrieveMethodHandles), pool));
+		}
+		return CompletableFuture.allOf(warmUps.toArray(new CompletableFuture<?>[warmUps.size()]));
+	}
+
+	public CompletableFuture<Void> warmUp(String packageNamePrefix, ClassLoader classLoader, boolean retrieveMethodHandles) {
+		return warmUp(packageNamePrefix, classLoader, retrieveMethodHandles, ForkJoinPool.commonPool());
+	}
+
+	public CompletableFuture<Void> warmUp(String packageNamePrefix, ClassLoader classLoader, boolean retrieveMethodHandles, ForkJoinPool pool) {
+		return CompletableFuture.supplyAsync(() -> findClasses(packageNamePrefix, classLoader), pool)
+			.thenCompose(classes -> warmUp(classes, retrieveMethodHandles, pool));
+	}
+
+	public Cache writeSnapshot(Path path) {
+		Snapshot.write(this, path);
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	public Cache loadSnapshot(Path path) {
+		Snapshot snapshot = Snapshot.load(this, path);
+		for (PathForResources<? extends Collection<? extends Member>> pathForResources : getPathsForMembers()) {
+			((PathForResources<Collection<Member>>)pathForResources).rehydrator = key ->
+				snapshot.rehydrate(pathForResources.name, key);
+		}
+		return this;
+	}
+
+	public Cache discardSnapshot() {
+		for (PathForResources<? extends Collection<? extends Member>> pathForResources : getPathsForMembers()) {
+			pathForResources.rehydrator = null;
+		}
+		return this;
+	}
+
+	//Releases everything this cache has registered in the JVM (its MBeans, the memory pressure listener and
+	//the redefinition listener) and its resources. The default cache cannot be closed
+	public synchronized void close() {
+		if (this == INSTANCE) {
+			Throwables.INSTANCE.throwException("The default cache cannot be closed");
+		}
+		unregisterMBeans();
+		disableMemoryPressureShedding();
+		stopListeningForRedefinitions();
+		discardSnapshot();
+		clear(true, true).join();
+	}
 
-	private Cache() {
-		uniqueKeyForConstructorsArray = new PathForResources<>();
-		uniqueKeyForFieldsArray = new PathForResources<>();
-		uniqueKeyForMethodsArray = new PathForResources<>();
-		uniqueKeyForConstructors = new PathForResources<>();
-		uniqueKeyForExecutableAndMethodHandle = new PathForResources<>();
-		uniqueKeyForAllFields = new PathForResources<>();
-		uniqueKeyForAllMethods = new PathForResources<>();
+	public Map<String, Statistics> getStatistics() {
+		Map<String, Statistics> statistics = new LinkedHashMap<>();
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			statistics.put(pathForResources.name, pathForResources.statisticsCounter.snapshot());
+		}
+		return statistics;
 	}
 
-	void clear(boolean destroyItems, Object... excluded) {
+	CompletableFuture<Void> clear(boolean destroyItems, boolean synchronous, Object... excluded) {
 		Set<Object> toBeExcluded = (excluded != null) && (excluded.length > 0) ?
 			new HashSet<>(Arrays.asList(excluded)) :
 			null;
+		if ((toBeExcluded == null) || !toBeExcluded.contains(metadataForClass)) {
+			resetMetadata();
+		}
 		Set<Runnable> deepCleaners = new HashSet<>();
-		addCleaningTask(deepCleaners, clear(uniqueKeyForConstructorsArray, toBeExcluded, destroyItems));
-		addCleaningTask(deepCleaners, clear(uniqueKeyForFieldsArray, toBeExcluded, destroyItems));
-		addCleaningTask(deepCleaners, clear(uniqueKeyForMethodsArray, toBeExcluded, destroyItems));
 		addCleaningTask(deepCleaners, clear(uniqueKeyForConstructors, toBeExcluded, destroyItems));
 		addCleaningTask(deepCleaners, clear(uniqueKeyForExecutableAndMethodHandle, toBeExcluded, destroyItems));
 		addCleaningTask(deepCleaners, clear(uniqueKeyForAllFields, toBeExcluded, destroyItems));
 		addCleaningTask(deepCleaners, clear(uniqueKeyForAllMethods, toBeExcluded, destroyItems));
-		new Thread(() -> {
-			for (Runnable task : deepCleaners) {
-				task.run();
+		if (synchronous) {
+			CompletableFuture<Void> cleaning = new CompletableFuture<>();
+			Cleaner.run(deepCleaners, cleaning);
+			return cleaning;
+		}
+		return cleaner.submit(deepCleaners);
+	}
+
+	int shed() {
+		resetMetadata();
+		int count = 0;
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			count += pathForResources.shed();
+		}
+		return count;
+	}
+
+	//The default cache is bound to the default facade once it is initialized
+	Facade getFacade() {
+		Facade facade = this.facade;
+		return facade != null ? facade : Facade.INSTANCE;
+	}
+
+	PathForResources<?>[] getPathsForResources() {
+		return new PathForResources<?>[] {
+			uniqueKeyForConstructors,
+			uniqueKeyForExecutableAndMethodHandle,
+			uniqueKeyForAllFields,
+			uniqueKeyForAllMethods
+		};
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	PathForResources<? extends Collection<? extends Member>>[] getPathsForMembers() {
+		return new PathForResources[] {
+			uniqueKeyForConstructors,
+			uniqueKeyForAllFields,
+			uniqueKeyForAllMethods
+		};
+	}
+
+	ClassMetadata getMetadata(Class<?> cls) {
+		ClassMetadata classMetadata = metadataForClass.get(cls);
+		if ((classMetadata.epoch != epoch.get()) || isInvalidated(classMetadata)) {
+			metadataForClass.remove(cls);
+			classMetadata = metadataForClass.get(cls);
+		}
+		return classMetadata;
+	}
+
+	boolean isInvalidated(ClassMetadata classMetadata) {
+		Invalidation lastInvalidation = this.lastInvalidation;
+		if (classMetadata.invalidationSequence == lastInvalidation.sequence) {
+			return false;
+		}
+		for (Invalidation invalidation = lastInvalidation;
+			(invalidation != null) && (invalidation.sequence > classMetadata.invalidationSequence);
+			invalidation = invalidation.previous
+		) {
+			if ((invalidation.classPredicate != null) && invalidation.classPredicate.test(classMetadata.cls)) {
+				return true;
+			}
+		}
+		classMetadata.invalidationSequence = lastInvalidation.sequence;
+		return false;
+	}
+
+	//A ClassValue cannot be enumerated: the records of the invalidated classes are dropped on their next access
+	synchronized void invalidateMetadata(Predicate<Class<?>> classPredicate) {
+		Invalidation lastInvalidation = this.lastInvalidation;
+		if (lastInvalidation.depth >= Invalidation.MAXIMUM_DEPTH) {
+			resetMetadata();
+		} else {
+			this.lastInvalidation = new Invalidation(lastInvalidation.sequence + 1, classPredicate, lastInvalidation);
+		}
+	}
+
+	synchronized void resetMetadata() {
+		epoch.incrementAndGet();
+		lastInvalidation = new Invalidation(lastInvalidation.sequence + 1, null, null);
+	}
+
+	int invalidate(Predicate<Class<?>> classPredicate) {
+		Map<Class<?>, Boolean> relations = new HashMap<>();
+		Predicate<Class<?>> relationPredicate = cls -> {
+			Boolean related = relations.get(cls);
+			if (related == null) {
+				relations.put(cls, related = isRelated(cls, classPredicate));
+			}
+			return related;
+		};
+		Predicate<Key> keyPredicate = key -> {
+			if (relationPredicate.test(key.cls)) {
+				return true;
+			}
+			if (key.parameterTypes != null) {
+				for (Class<?> parameterType : key.parameterTypes) {
+					if ((parameterType != null) && relationPredicate.test(parameterType)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		};
+		int count = 0;
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			count += pathForResources.remove(keyPredicate, true);
+		}
+		return count;
+	}
+
+	static boolean isInPackage(String className, String packageNamePrefix) {
+		int packageNameEndIndex = className.lastIndexOf('.');
+		if (packageNameEndIndex < 0) {
+			return packageNamePrefix.isEmpty();
+		}
+		return className.startsWith(packageNamePrefix) &&
+			((packageNameEndIndex == packageNamePrefix.length()) || className.startsWith(".", packageNamePrefix.length()));
+	}
+
+	//The members that cannot be made accessible are skipped instead of aborting the warm up: the failure of their
+	//collection is counted by the statistics of its path and a handle that cannot be retrieved is cached in a box
+	//together with its failure record
+	void warmUp(Class<?> cls, boolean retrieveMethodHandles) {
+		Facade facade = getFacade();
+		warmUp(
+			() -> facade.getFields().findAllAndMakeThemAccessible(cls),
+			() -> facade.getFields().findAll(FieldCriteria.forEntireClassHierarchy(), cls)
+		);
+		Collection<Method> methods = warmUp(
+			() -> facade.getMethods().findAllAndMakeThemAccessible(cls),
+			() -> facade.getMethods().findAll(MethodCriteria.forEntireClassHierarchy(), cls)
+		);
+		Collection<Constructor<?>> constructors = warmUp(
+			() -> facade.getConstructors().findAllAndMakeThemAccessible(cls),
+			() -> facade.getConstructors().findAll(ConstructorCriteria.forEntireClassHierarchy(), cls)
+		);
+		if (retrieveMethodHandles) {
+			for (Method method : methods) {
+				facade.getMethods().getExecutableBox(method);
+			}
+			for (Constructor<?> constructor : constructors) {
+				facade.getConstructors().getExecutableBox(constructor);
+			}
+		}
+	}
+
+	<M extends Member> Collection<M> warmUp(Supplier<Collection<M>> accessibleMembersSupplier, Supplier<Collection<M>> membersSupplier) {
+		Collection<M> members = load(accessibleMembersSupplier);
+		if (members == null) {
+			members = load(membersSupplier);
+		}
+		return members != null ? members : Collections.emptyList();
+	}
+
+	//Returns null when the loading fails, which has already been counted by the statistics of the path that loads
+	<T> T load(Supplier<T> loader) {
+		try {
+			return loader.get();
+		} catch (RuntimeException | LinkageError exc) {
+			return null;
+		}
+	}
+
+	Collection<Class<?>> findClasses(String packageNamePrefix, ClassLoader classLoader) {
+		Set<Path> classPaths = new LinkedHashSet<>();
+		for (String classPath : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			if (!classPath.isEmpty()) {
+				try {
+					classPaths.add(Paths.get(classPath).toAbsolutePath().normalize());
+				} catch (InvalidPathException exc) {
+					//The entries that cannot be converted to a path are skipped
+				}
+			}
+		}
+		for (ClassLoader currentClassLoader = classLoader; currentClassLoader != null; currentClassLoader = currentClassLoader.getParent()) {
+			if (currentClassLoader instanceof URLClassLoader) {
+				for (URL url : ((URLClassLoader)currentClassLoader).getURLs()) {
+					//Only the local class paths can be scanned
+					if ("file".equals(url.getProtocol())) {
+						try {
+							classPaths.add(Paths.get(url.toURI()).toAbsolutePath().normalize());
+						} catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException exc) {
+							//The URLs that are not valid URIs, like the ones with unescaped characters, are skipped
+						}
+					}
+				}
+			}
+		}
+		Set<String> classNames = new LinkedHashSet<>();
+		String packagePath = packageNamePrefix.replace('.', '/');
+		for (Path classPath : classPaths) {
+			try {
+				if (Files.isDirectory(classPath)) {
+					collectClassNames(classPath, classPath.resolve(packagePath), packageNamePrefix, classNames);
+				} else if (Files.isRegularFile(classPath) && classPath.toString().endsWith(".jar")) {
+					try (FileSystem fileSystem = FileSystems.newFileSystem(classPath, (ClassLoader)null)) {
+						Path root = fileSystem.getPath("/");
+						collectClassNames(root, root.resolve(packagePath), packageNamePrefix, classNames);
+					}
+				}
+			} catch (IOException | UncheckedIOException exc) {
+				//The class paths that cannot be read are skipped
+			}
+		}
+		Collection<Class<?>> classes = new ArrayList<>();
+		for (String className : classNames) {
+			try {
+				classes.add(Class.forName(className, false, classLoader));
+			} catch (ClassNotFoundException | LinkageError exc) {
+				//A class that is not visible to the class loader or that depends on a missing class is not warmed up
+			}
+		}
+		return classes;
+	}
+
+	void collectClassNames(Path root, Path packageFolder, String packageNamePrefix, Set<String> classNames) throws IOException {
+		if (!Files.isDirectory(packageFolder)) {
+			return;
+		}
+		try (Stream<Path> files = Files.walk(packageFolder)) {
+			files.forEach(file -> {
+				String relativePath = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+				if (relativePath.endsWith(".class") && !relativePath.endsWith("module-info.class") &&
+					!relativePath.endsWith("package-info.class")
+				) {
+					String className = relativePath.substring(0, relativePath.length() - ".class".length()).replace('/', '.');
+					if (isInPackage(className, packageNamePrefix)) {
+						classNames.add(className);
+					}
+				}
+			});
+		}
+	}
+
+	//The cached member collections of a class contain the members of its whole hierarchy
+	boolean isRelated(Class<?> cls, Predicate<Class<?>> classPredicate) {
+		while (cls.isArray()) {
+			cls = cls.getComponentType();
+		}
+		for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+			if (classPredicate.test(currentClass)) {
+				return true;
 			}
-		}).start();
+			for (Class<?> iface : currentClass.getInterfaces()) {
+				if (isRelated(iface, classPredicate)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	synchronized void registerMBeans() {
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			for (PathForResources<?> pathForResources : getPathsForResources()) {
+				String objectName = Cache.class.getPackage().getName() + ":type=" + Cache.class.getSimpleName() + ",name=" + pathForResources.name;
+				try {
+					mBeanNames.add(
+						mBeanServer.registerMBean(pathForResources.statisticsCounter, new ObjectName(objectName)).getObjectName()
+					);
+				} catch (InstanceAlreadyExistsException exc) {
+					//The library has been loaded by more than one class loader
+					mBeanNames.add(
+						mBeanServer.registerMBean(
+							pathForResources.statisticsCounter,
+							new ObjectName(objectName + ",id=" + Integer.toHexString(System.identityHashCode(this)))
+						).getObjectName()
+					);
+				}
+			}
+		} catch (JMException exc) {
+			Throwables.INSTANCE.throwException(exc);
+		}
+	}
+
+	synchronized void unregisterMBeans() {
+		if (mBeanNames.isEmpty()) {
+			return;
+		}
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		for (ObjectName mBeanName : mBeanNames) {
+			try {
+				mBeanServer.unregisterMBean(mBeanName);
+			} catch (InstanceNotFoundException exc) {
+				//Already unregistered by a third party
+			} catch (MBeanRegistrationException exc) {
+				Throwables.INSTANCE.throwException(exc);
+			}
+		}
+		mBeanNames.clear();
+	}
 
+	//The maximum is shared by all the paths of the cache. The handles cached in the class metadata are not
+	//counted: they are released together with the metadata, when the cache is cleared or their class is
+	//invalidated or unloaded
+	private Cache setEviction(long maximum, boolean weighByEstimatedSize) {
+		if (maximum <= 0) {
+			throw new IllegalArgumentException("Maximum cache size must be greater than zero");
+		}
+		Eviction eviction = new Eviction(maximum, weighByEstimatedSize, getPathsForResources());
+		for (PathForResources<?> pathForResources : getPathsForResources()) {
+			pathForResources.setEviction(eviction);
+		}
+		eviction.recalculateWeightedSize();
+		eviction.evict(null, null);
+		return this;
 	}
 
 	private boolean addCleaningTask(Set<Runnable> tasks, Runnable task) {
@@ -110,200 +708,2079 @@ class Cache {
 		return null;
 	}
 
-	static class PathForResources<R> {
-		String instanceId;
-		BiConsumer<String, R> itemDestroyer;
-		Long partitionStartLevel;
-		Map<Long, Map<String, Map<String, R>>> resources;
-		Function<R, R> sharer;
+	static class ClassMetadata {
+		private static final Field[] EMPTY_FIELDS = {};
+		private static final Method[] EMPTY_METHODS = {};
 
-		private PathForResources() {
-			this(1L, item -> item, null);
+		//Weakly referenced because a value of a ClassValue that references it is never released
+		final WeakReference<Cache> cache;
+		final Class<?> cls;
+		final long epoch;
+		volatile long invalidationSequence;
+		volatile long fingerprint;
+		volatile Field[] declaredFields;
+		volatile Method[] declaredMethods;
+		volatile Constructor<?>[] declaredConstructors;
+		volatile Map<String, Field[]> declaredFieldsByName;
+		volatile Map<String, Method[]> declaredMethodsByName;
+		volatile Members.Hierarchy hierarchy;
+		//Outside the maximum size of the cache and of its statistics, like the declared members arrays
+		final Map<Member, Members.Handler.OfExecutable.Box<?>> executableBoxes;
+
+		private ClassMetadata(Cache cache, Class<?> cls, long epoch, long invalidationSequence) {
+			this.cache = new WeakReference<>(cache);
+			this.cls = cls;
+			this.epoch = epoch;
+			this.invalidationSequence = invalidationSequence;
+			this.executableBoxes = new ConcurrentHashMap<>();
 		}
 
-		private PathForResources(BiConsumer<String, R> itemDestroyer) {
-			this(1L, item -> item, itemDestroyer);
+		Field[] getDeclaredFields() {
+			Field[] declaredFields = this.declaredFields;
+			if (declaredFields == null) {
+				this.declaredFields = declaredFields = cache.get().getFacade().getDeclaredFields(cls);
+			}
+			return declaredFields;
 		}
 
-		private PathForResources(Function<R, R> sharer) {
-			this(1L, sharer, null);
+		Method[] getDeclaredMethods() {
+			Method[] declaredMethods = this.declaredMethods;
+			if (declaredMethods == null) {
+				this.declaredMethods = declaredMethods = cache.get().getFacade().getDeclaredMethods(cls);
+			}
+			return declaredMethods;
 		}
 
-		private PathForResources(Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
-			this(1L, item -> item, itemDestroyer);
+		Field[] getDeclaredFields(String name) {
+			Map<String, Field[]> declaredFieldsByName = this.declaredFieldsByName;
+			if (declaredFieldsByName == null) {
+				this.declaredFieldsByName = declaredFieldsByName = indexByName(getDeclaredFields(), Field[]::new);
+			}
+			return declaredFieldsByName.getOrDefault(name, EMPTY_FIELDS);
 		}
 
-		private PathForResources(Long partitionStartLevel) {
-			this(partitionStartLevel, item -> item, null);
+		Method[] getDeclaredMethods(String name) {
+			Map<String, Method[]> declaredMethodsByName = this.declaredMethodsByName;
+			if (declaredMethodsByName == null) {
+				this.declaredMethodsByName = declaredMethodsByName = indexByName(getDeclaredMethods(), Method[]::new);
+			}
+			return declaredMethodsByName.getOrDefault(name, EMPTY_METHODS);
 		}
 
-		private PathForResources(Long partitionStartLevel, BiConsumer<String, R> itemDestroyer) {
-			this(partitionStartLevel, item -> item, itemDestroyer);
+		//Members with the same name keep their order in the declared members array
+		private static <M extends Member> Map<String, M[]> indexByName(M[] members, IntFunction<M[]> arraySupplier) {
+			Map<String, List<M>> membersByName = new HashMap<>();
+			for (M member : members) {
+				membersByName.computeIfAbsent(member.getName(), name -> new ArrayList<>(1)).add(member);
+			}
+			Map<String, M[]> index = new HashMap<>(membersByName.size() * 4 / 3 + 1);
+			for (Map.Entry<String, List<M>> entry : membersByName.entrySet()) {
+				List<M> membersWithSameName = entry.getValue();
+				index.put(entry.getKey(), membersWithSameName.toArray(arraySupplier.apply(membersWithSameName.size())));
+			}
+			return index;
 		}
 
-		private PathForResources(Long partitionStartLevel, Function<R, R> sharer) {
-			this(partitionStartLevel, sharer, null);
+		Constructor<?>[] getDeclaredConstructors() {
+			Constructor<?>[] declaredConstructors = this.declaredConstructors;
+			if (declaredConstructors == null) {
+				this.declaredConstructors = declaredConstructors = cache.get().getFacade().getDeclaredConstructors(cls);
+			}
+			return declaredConstructors;
 		}
 
-		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
-			this.partitionStartLevel = partitionStartLevel;
-			this.sharer = sharer;
-			this.resources = new ConcurrentHashMap<>();
-			this.itemDestroyer = itemDestroyer;
-			this.instanceId = this.toString();
+		Members.Hierarchy getHierarchy() {
+			Members.Hierarchy hierarchy = this.hierarchy;
+			if (hierarchy == null) {
+				this.hierarchy = hierarchy = Members.Hierarchy.of(cls);
+			}
+			return hierarchy;
 		}
 
-		<K, V, E extends Throwable> void deepClear(Map<K,V> map, ThrowingBiConsumer<K, V, E> itemDestroyer) throws E {
-			java.util.Iterator<Entry<K, V>> itr = map.entrySet().iterator();
-			while (itr.hasNext()) {
-				Entry<K, V> entry = itr.next();
-				try {
-					itr.remove();
-					itemDestroyer.accept(entry.getKey(), entry.getValue());
-				} catch (Throwable exc) {
+		long getFingerprint() {
+			long fingerprint = this.fingerprint;
+			if (fingerprint == 0) {
+				this.fingerprint = fingerprint = Snapshot.computeFingerprint(cls);
+			}
+			return fingerprint;
+		}
 
+		@SuppressWarnings("unchecked")
+		<E extends Executable> Members.Handler.OfExecutable.Box<E> getOrUploadExecutableBoxIfAbsent(
+			E executable,
+			Function<E, Members.Handler.OfExecutable.Box<E>> executableBoxSupplier
+		) {
+			Members.Handler.OfExecutable.Box<E> executableBox = (Members.Handler.OfExecutable.Box<E>)executableBoxes.get(executable);
+			if (executableBox == null) {
+				executableBox = executableBoxSupplier.apply(executable);
+				Members.Handler.OfExecutable.Box<E> oldExecutableBox =
+					(Members.Handler.OfExecutable.Box<E>)executableBoxes.putIfAbsent(executable, executableBox);
+				if (oldExecutableBox != null) {
+					executableBox = oldExecutableBox;
 				}
 			}
+			return executableBox;
+		}
+
+	}
+
+	public interface StatisticsMXBean {
+
+		String getName();
+
+		long getHitCount();
+
+		long getNegativeHitCount();
+
+		long getMissCount();
+
+		long getLoadCount();
+
+		long getLoadFailureCount();
+
+		long getTotalLoadTime();
+
+		long getSize();
+
+		long getEvictionCount();
+
+		long getClearCount();
+
+		long getShedCount();
+
+		long getReloadCount();
+
+		double getHitRate();
+
+	}
+
+	public static final class Statistics implements StatisticsMXBean {
+		private final String name;
+		private final long hitCount;
+		private final long negativeHitCount;
+		private final long missCount;
+		private final long loadCount;
+		private final long loadFailureCount;
+		private final long totalLoadTime;
+		private final long size;
+		private final long evictionCount;
+		private final long clearCount;
+		private final long shedCount;
+		private final long reloadCount;
+
+		Statistics(
+			String name,
+			long hitCount,
+			long negativeHitCount,
+			long missCount,
+			long loadCount,
+			long loadFailureCount,
+			long totalLoadTime,
+			long size,
+			long evictionCount,
+			long clearCount,
+			long shedCount,
+			long reloadCount
+		) {
+			this.name = name;
+			this.hitCount = hitCount;
+			this.negativeHitCount = negativeHitCount;
+			this.missCount = missCount;
+			this.loadCount = loadCount;
+			this.loadFailureCount = loadFailureCount;
+			this.totalLoadTime = totalLoadTime;
+			this.size = size;
+			this.evictionCount = evictionCount;
+			this.clearCount = clearCount;
+			this.shedCount = shedCount;
+			this.reloadCount = reloadCount;
 		}
 
-		R get(String path) {
-			return getOrUploadIfAbsent(path, null);
+		@Override
+		public String getName() {
+			return name;
 		}
 
-		int getLoadedResourcesCount() {
-			return getLoadedResourcesCount(resources);
+		@Override
+		public long getHitCount() {
+			return hitCount;
 		}
 
-		R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return getOrUploadIfAbsent(nestedPartition, path, resourceSupplier);
+		//Hits on entries that record a member not found or a handle that could not be retrieved
+		@Override
+		public long getNegativeHitCount() {
+			return negativeHitCount;
 		}
 
-		R remove(String path, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			R item =  Synchronizer.INSTANCE.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
-			});
-			if ((itemDestroyer != null) && destroy && (item != null)) {
-				String finalPath = path;
-				itemDestroyer.accept(finalPath, item);
-			}
-			return item;
+		@Override
+		public long getMissCount() {
+			return missCount;
 		}
 
-		R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
-			R oldResource = remove(path, destroy);
-			 Synchronizer.INSTANCE.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				R resourceTemp = resourceSupplier.get();
-				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
-				}
-			});
-			return oldResource;
+		@Override
+		public long getLoadCount() {
+			return loadCount;
 		}
 
-		R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return upload(nestedPartition, path, resourceSupplier, destroy);
+		@Override
+		public long getLoadFailureCount() {
+			return loadFailureCount;
 		}
 
-		void clearResources(Map<Long, Map<String, Map<String, R>>> partitions, boolean destroyItems) {
-			for (Entry<Long, Map<String, Map<String, R>>> partition : partitions.entrySet()) {
-				for (Entry<String, Map<String, R>> nestedPartition : partition.getValue().entrySet()) {
-					if ((itemDestroyer != null) && destroyItems) {
-						deepClear(nestedPartition.getValue(), (path, resource) -> {
-							this.itemDestroyer.accept(path, resource);
-						});
-					} else {
-						nestedPartition.getValue().clear();
-					}
-				}
-				partition.getValue().clear();
-			}
-			partitions.clear();
+		//Cumulative time spent by the suppliers of the loaded entries, in nanoseconds
+		@Override
+		public long getTotalLoadTime() {
+			return totalLoadTime;
 		}
 
-		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
-			R resource = loadedResources.get(path);
-			if (resource == null) {
-				resource =  Synchronizer.INSTANCE.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-					R resourceTemp = loadedResources.get(path);
-					if ((resourceTemp == null) && (resourceSupplier != null)) {
-						resourceTemp = resourceSupplier.get();
-						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
-						}
-					}
-					return resourceTemp;
-				});
-			}
-			return resource != null?
-				sharer.apply(resource) :
-				resource;
+		@Override
+		public long getSize() {
+			return size;
 		}
 
-		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
-			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
-			if (resources == null) {
-				resources = Synchronizer.INSTANCE.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
-					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
-					if (resourcesTemp == null) {
-						partitionedResources.put(partitionIndex, resourcesTemp = new ConcurrentHashMap<>());
-					}
-					return resourcesTemp;
-				});
-			}
-			return resources;
+		@Override
+		public long getEvictionCount() {
+			return evictionCount;
 		}
 
-		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
-			String partitionKey = "/";
-			if (partitionIndex > 1) {
-				partitionKey = path.substring(0, path.lastIndexOf("/"));
-				partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
-			}
-			Map<String, R> innerPartion = partion.get(partitionKey);
-			if (innerPartion == null) {
-				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.INSTANCE.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
-					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
-					if (innerPartionTemp == null) {
-						partion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
-					}
-					return innerPartionTemp;
-				});
-			}
-			return innerPartion;
+		@Override
+		public long getClearCount() {
+			return clearCount;
 		}
 
-		private Runnable clear(boolean destroyItems) {
-			Map<Long, Map<String, Map<String, R>>> partitions;
-			synchronized (this.resources) {
-				partitions = this.resources;
-				this.resources = new ConcurrentHashMap<>();
-			}
-			return () ->
-				clearResources(partitions, destroyItems);
+		//Entries released because of memory pressure
+		@Override
+		public long getShedCount() {
+			return shedCount;
 		}
 
-		private int getLoadedResourcesCount(Map<Long, Map<String, Map<String, R>>> resources) {
-			int count = 0;
-			for (Map.Entry<Long, Map<String, Map<String, R>>> partition : resources.entrySet()) {
-				for (Map.Entry<String, Map<String, R>> innerPartition : partition.getValue().entrySet()) {
-					count += innerPartition.getValue().size();
-				}
+		//Entries loaded again after having been released because of memory pressure
+		@Override
+		public long getReloadCount() {
+			return reloadCount;
+		}
+
+		@Override
+		public double getHitRate() {
+			long requestCount = hitCount + missCount;
+			return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+		}
+
+		@Override
+		public String toString() {
+			return Strings.INSTANCE.compile(
+				"{}: hits {} ({} negative), misses {}, loads {} ({} failed) in {} ms, size {}, evictions {}, clears {}, shed {} ({} reloaded)",
+				name, hitCount, negativeHitCount, missCount, loadCount, loadFailureCount, totalLoadTime / 1_000_000, size, evictionCount, clearCount,
+				shedCount, reloadCount
+			);
+		}
+
+	}
+
+	static class StatisticsCounter implements StatisticsMXBean {
+		final PathForResources<?> pathForResources;
+		final LongAdder hitCount;
+		final LongAdder negativeHitCount;
+		final LongAdder missCount;
+		final LongAdder loadCount;
+		final LongAdder loadFailureCount;
+		final LongAdder totalLoadTime;
+		final LongAdder evictionCount;
+		final LongAdder clearCount;
+		final LongAdder shedCount;
+		final LongAdder reloadCount;
+
+		StatisticsCounter(PathForResources<?> pathForResources) {
+			this.pathForResources = pathForResources;
+			this.hitCount = new LongAdder();
+			this.negativeHitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.loadCount = new LongAdder();
+			this.loadFailureCount = new LongAdder();
+			this.totalLoadTime = new LongAdder();
+			this.evictionCount = new LongAdder();
+			this.clearCount = new LongAdder();
+			this.shedCount = new LongAdder();
+			this.reloadCount = new LongAdder();
+		}
+
+		void recordLoad(long loadTime, boolean failed) {
+			loadCount.increment();
+			totalLoadTime.add(loadTime);
+			if (failed) {
+				loadFailureCount.increment();
 			}
-			return count;
 		}
+
+		Statistics snapshot() {
+			return new Statistics(
+				getName(),
+				getHitCount(),
+				getNegativeHitCount(),
+				getMissCount(),
+				getLoadCount(),
+				getLoadFailureCount(),
+				getTotalLoadTime(),
+				getSize(),
+				getEvictionCount(),
+				getClearCount(),
+				getShedCount(),
+				getReloadCount()
+			);
+		}
+
+		@Override
+		public String getName() {
+			return pathForResources.name;
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		@Override
+		public long getNegativeHitCount() {
+			return negativeHitCount.sum();
+		}
+
+		@Override
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return loadCount.sum();
+		}
+
+		@Override
+		public long getLoadFailureCount() {
+			return loadFailureCount.sum();
+		}
+
+		@Override
+		public long getTotalLoadTime() {
+			return totalLoadTime.sum();
+		}
+
+		@Override
+		public long getSize() {
+			return pathForResources.getLoadedResourcesCount();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		@Override
+		public long getClearCount() {
+			return clearCount.sum();
+		}
+
+		@Override
+		public long getShedCount() {
+			return shedCount.sum();
+		}
+
+		@Override
+		public long getReloadCount() {
+			return reloadCount.sum();
+		}
+
+		@Override
+		public double getHitRate() {
+			return snapshot().getHitRate();
+		}
+
+	}
+
+	static class RedefinitionListener implements ClassFileTransformer {
+		final Cache cache;
+		final Instrumentation instrumentation;
+
+		RedefinitionListener(Cache cache, Instrumentation instrumentation) {
+			this.cache = cache;
+			this.instrumentation = instrumentation;
+		}
+
+		@Override
+		public byte[] transform(
+			ClassLoader classLoader,
+			String className,
+			Class<?> classBeingRedefined,
+			ProtectionDomain protectionDomain,
+			byte[] classFileBuffer
+		) {
+			if (classBeingRedefined != null) {
+				try {
+					cache.invalidate(classBeingRedefined);
+				} catch (RuntimeException | LinkageError exc) {
+					//The entries that could not be singled out are removed together with all the others and the
+					//statistics record it as a clear
+					cache.clear(true, false);
+				}
+			}
+			//The class file is never transformed
+			return null;
+		}
+
+	}
+
+	//The lowest of the fractions requested by the caches that shed under memory pressure is set as collection usage
+	//threshold on the heap memory pools. The thresholds found on the pools are restored once no cache requests one.
+	//Since other caches and monitoring agents may set lower thresholds on the same pools, a notification causes
+	//a cache to shed only if it comes from a pool set here and its usage exceeds the fraction of that cache
+	static class HeapUsageThresholds {
+		static final Map<Cache, Double> requested = new HashMap<>();
+		static final Map<String, Long> previous = new HashMap<>();
+
+		static synchronized void request(Cache cache, double heapUsageThreshold) {
+			requested.put(cache, heapUsageThreshold);
+			update();
+		}
+
+		static synchronized void release(Cache cache) {
+			if (requested.remove(cache) != null) {
+				update();
+			}
+		}
+
+		static synchronized boolean isExceeded(MemoryNotificationInfo notificationInfo, double heapUsageThreshold) {
+			MemoryUsage usage = notificationInfo.getUsage();
+			return previous.containsKey(notificationInfo.getPoolName()) && (usage.getMax() > 0) &&
+				(usage.getUsed() >= (long)(usage.getMax() * heapUsageThreshold));
+		}
+
+		static void update() {
+			Double lowestHeapUsageThreshold = !requested.isEmpty() ? Collections.min(requested.values()) : null;
+			for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+				long maximumSize = memoryPool.getUsage().getMax();
+				if ((memoryPool.getType() != MemoryType.HEAP) || !memoryPool.isCollectionUsageThresholdSupported() || (maximumSize <= 0)) {
+					continue;
+				}
+				if (lowestHeapUsageThreshold != null) {
+					previous.putIfAbsent(memoryPool.getName(), memoryPool.getCollectionUsageThreshold());
+					memoryPool.setCollectionUsageThreshold((long)(maximumSize * lowestHeapUsageThreshold));
+				} else {
+					Long previousThreshold = previous.remove(memoryPool.getName());
+					if (previousThreshold != null) {
+						memoryPool.setCollectionUsageThreshold(previousThreshold);
+					}
+				}
+			}
+		}
+
+	}
+
+	static class Invalidation {
+		static final int MAXIMUM_DEPTH = 64;
+
+		final long sequence;
+		final Predicate<Class<?>> classPredicate;
+		final Invalidation previous;
+		final int depth;
+
+		Invalidation(long sequence, Predicate<Class<?>> classPredicate, Invalidation previous) {
+			this.sequence = sequence;
+			this.classPredicate = classPredicate;
+			this.previous = previous;
+			this.depth = previous != null ? previous.depth + 1 : 0;
+		}
+
+	}
+
+	//Persistent image of the member collections: a header, a directory with the fingerprint of every class
+	//involved and the offset of the entries owned by it, then the entries. The file is mapped read only and
+	//the entries of a class are parsed on the first miss for it. The fingerprint of a class is taken from the
+	//origin of its class file, so validating it does not require the class to be reflected
+	static class Snapshot {
+		static final int MAGIC = 0x42575253;
+		static final int VERSION = 3;
+		static final long UNVERIFIABLE = Long.MIN_VALUE;
+		static final int HEADER_SIZE = 16;
+		static final byte FIELD = 'F';
+		static final byte METHOD = 'M';
+		static final byte CONSTRUCTOR = 'C';
+
+		final Cache cache;
+		final ByteBuffer buffer;
+		final int entriesBase;
+		final Map<String, ClassRecord> classRecords;
+		final Map<String, Map<String, MemberReference[]>> entriesOfClasses;
+
+		private Snapshot(Cache cache, ByteBuffer buffer) {
+			this.cache = cache;
+			this.buffer = buffer;
+			if ((buffer.getInt(0) != MAGIC) || (buffer.getInt(4) != VERSION)) {
+				Throwables.INSTANCE.throwException("Unsupported snapshot format");
+			}
+			int classCount = buffer.getInt(8);
+			this.entriesBase = HEADER_SIZE + buffer.getInt(12);
+			this.classRecords = new HashMap<>();
+			ByteBuffer directory = buffer.duplicate();
+			directory.position(HEADER_SIZE);
+			for (int i = 0; i < classCount; i++) {
+				classRecords.put(readString(directory), new ClassRecord(directory.getLong(), directory.getInt()));
+			}
+			this.entriesOfClasses = new ConcurrentHashMap<>();
+		}
+
+		static Snapshot load(Cache cache, Path path) {
+			try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+				return new Snapshot(cache, fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+			} catch (IOException exc) {
+				return Throwables.INSTANCE.throwException(exc);
+			}
+		}
+
+		static void write(Cache cache, Path path) {
+			Map<String, Class<?>> classes = new LinkedHashMap<>();
+			Map<String, Collection<Entry<String, Collection<? extends Member>>>> entriesOfClasses = new LinkedHashMap<>();
+			Set<String> ambiguousClassNames = new HashSet<>();
+			for (PathForResources<? extends Collection<? extends Member>> pathForResources : cache.getPathsForMembers()) {
+				for (PathForResources.Segment<? extends Collection<? extends Member>> segment : pathForResources.getSegments()) {
+					segment.resources.forEach((key, members) -> {
+						collectHierarchy(key.cls, classes, ambiguousClassNames);
+						if (key.parameterTypes != null) {
+							for (Class<?> parameterType : key.parameterTypes) {
+								if (parameterType != null) {
+									collectHierarchy(parameterType, classes, ambiguousClassNames);
+								}
+							}
+						}
+						entriesOfClasses.computeIfAbsent(key.cls.getName(), className -> new ArrayList<>()).add(
+							new AbstractMap.SimpleImmutableEntry<>(toEntryKey(pathForResources.name, key), members)
+						);
+					});
+				}
+			}
+			try {
+				ByteArrayOutputStream entries = new ByteArrayOutputStream();
+				DataOutputStream entriesOutput = new DataOutputStream(entries);
+				ByteArrayOutputStream directory = new ByteArrayOutputStream();
+				DataOutputStream directoryOutput = new DataOutputStream(directory);
+				int classCount = 0;
+				for (Entry<String, Class<?>> cls : classes.entrySet()) {
+					if (ambiguousClassNames.contains(cls.getKey())) {
+						continue;
+					}
+					writeString(directoryOutput, cls.getKey());
+					directoryOutput.writeLong(cache.getMetadata(cls.getValue()).getFingerprint());
+					Collection<Entry<String, Collection<? extends Member>>> entriesOfClass = entriesOfClasses.get(cls.getKey());
+					if (entriesOfClass == null) {
+						directoryOutput.writeInt(-1);
+					} else {
+						directoryOutput.writeInt(entriesOutput.size());
+						entriesOutput.writeInt(entriesOfClass.size());
+						for (Entry<String, Collection<? extends Member>> entry : entriesOfClass) {
+							writeString(entriesOutput, entry.getKey());
+							Collection<? extends Member> members = entry.getValue();
+							entriesOutput.writeInt(members.size());
+							for (Member member : members) {
+								writeString(entriesOutput, member.getDeclaringClass().getName());
+								entriesOutput.writeByte(getKind(member));
+								writeString(entriesOutput, member.getName());
+								writeString(entriesOutput, getDescriptor(member));
+								entriesOutput.writeInt(member.getModifiers());
+								entriesOutput.writeBoolean(((AccessibleObject)member).isAccessible());
+							}
+						}
+					}
+					++classCount;
+				}
+				Path temporaryFile = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+				try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporaryFile))) {
+					output.writeInt(MAGIC);
+					output.writeInt(VERSION);
+					output.writeInt(classCount);
+					output.writeInt(directory.size());
+					directory.writeTo(output);
+					entries.writeTo(output);
+				}
+				//Replaced atomically: the JVMs that have mapped the previous file keep reading it
+				Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException exc) {
+				Throwables.INSTANCE.throwException(exc);
+			}
+		}
+
+		static void collectHierarchy(Class<?> cls, Map<String, Class<?>> classes, Set<String> ambiguousClassNames) {
+			Class<?> registeredClass = classes.putIfAbsent(cls.getName(), cls);
+			if (registeredClass != null) {
+				if (registeredClass != cls) {
+					ambiguousClassNames.add(cls.getName());
+				}
+				return;
+			}
+			if (cls.getSuperclass() != null) {
+				collectHierarchy(cls.getSuperclass(), classes, ambiguousClassNames);
+			}
+			for (Class<?> iface : cls.getInterfaces()) {
+				collectHierarchy(iface, classes, ambiguousClassNames);
+			}
+		}
+
+		//Combines the name of the class, the type of its class loader and the version of its class file: the
+		//size and the modification time of the file or of the archive that contains it, the version of the
+		//runtime for its classes, the content for any other location. A class without a class file, like a
+		//generated one, is UNVERIFIABLE and its entries are never rehydrated
+		static long computeFingerprint(Class<?> cls) {
+			long fingerprint = hash(cls.getName());
+			if (cls.isPrimitive() || cls.isArray()) {
+				return fingerprint != 0 ? fingerprint : 1;
+			}
+			ClassLoader classLoader = cls.getClassLoader();
+			fingerprint = (31 * fingerprint) + (classLoader != null ? hash(classLoader.getClass().getName()) : 0);
+			String classFileName = cls.getName().replace('.', '/') + ".class";
+			URL classFile = classLoader != null ? classLoader.getResource(classFileName) : ClassLoader.getSystemResource(classFileName);
+			if (classFile == null) {
+				return UNVERIFIABLE;
+			}
+			try {
+				fingerprint = (31 * fingerprint) + hashClassFileVersion(classFile);
+			} catch (IOException | IllegalArgumentException exc) {
+				return UNVERIFIABLE;
+			}
+			return (fingerprint != 0) && (fingerprint != UNVERIFIABLE) ? fingerprint : 1;
+		}
+
+		static long hashClassFileVersion(URL classFile) throws IOException {
+			String location = classFile.toString();
+			if ("file".equals(classFile.getProtocol())) {
+				return hashFileVersion(Paths.get(URI.create(location)));
+			} else if ("jar".equals(classFile.getProtocol()) && location.startsWith("jar:file:") && location.contains("!/")) {
+				return hashFileVersion(Paths.get(URI.create(location.substring("jar:".length(), location.indexOf("!/")))));
+			} else if ("jrt".equals(classFile.getProtocol())) {
+				return hash(System.getProperty("java.home") + "\n" + System.getProperty("java.vm.version"));
+			}
+			long hash = 0xcbf29ce484222325L;
+			try (InputStream input = classFile.openStream()) {
+				byte[] buffer = new byte[8192];
+				for (int count = input.read(buffer); count >= 0; count = input.read(buffer)) {
+					for (int i = 0; i < count; i++) {
+						hash = (hash ^ buffer[i]) * 0x100000001b3L;
+					}
+				}
+			}
+			return hash;
+		}
+
+		static long hashFileVersion(Path file) throws IOException {
+			return hash(Files.size(file) + "\n" + Files.getLastModifiedTime(file).toMillis());
+		}
+
+		static long hash(String value) {
+			long hash = 0xcbf29ce484222325L;
+			for (int i = 0; i < value.length(); i++) {
+				hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+			}
+			return hash;
+		}
+
+		static String toEntryKey(String cacheName, Key key) {
+			StringBuilder entryKey = new StringBuilder(cacheName).append('\n').append(key.operation).append('\n')
+				.append(key.name != null ? key.name : "\0").append('\n');
+			if (key.parameterTypes != null) {
+				for (Class<?> parameterType : key.parameterTypes) {
+					entryKey.append(parameterType != null ? parameterType.getName() : "\0").append(',');
+				}
+			} else {
+				entryKey.append('\0');
+			}
+			return entryKey.toString();
+		}
+
+		static byte getKind(Member member) {
+			return member instanceof Field ? FIELD : member instanceof Method ? METHOD : CONSTRUCTOR;
+		}
+
+		static String getDescriptor(Member member) {
+			if (member instanceof Field) {
+				return MethodType.methodType(((Field)member).getType()).toMethodDescriptorString().substring(2);
+			} else if (member instanceof Method) {
+				return MethodType.methodType(((Method)member).getReturnType(), ((Method)member).getParameterTypes()).toMethodDescriptorString();
+			}
+			return MethodType.methodType(void.class, ((Constructor<?>)member).getParameterTypes()).toMethodDescriptorString();
+		}
+
+		static void writeString(DataOutputStream output, String value) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+
+		static String readString(ByteBuffer buffer) {
+			byte[] bytes = new byte[buffer.getInt()];
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		Collection<Member> rehydrate(String cacheName, Key key) {
+			ClassRecord ownerRecord = classRecords.get(key.cls.getName());
+			if ((ownerRecord == null) || (ownerRecord.entriesOffset < 0)) {
+				return null;
+			}
+			MemberReference[] memberReferences = entriesOfClasses.computeIfAbsent(
+				key.cls.getName(), className -> readEntries(ownerRecord.entriesOffset)
+			).get(toEntryKey(cacheName, key));
+			if ((memberReferences == null) || !isValid(key.cls, new HashSet<>())) {
+				return null;
+			}
+			if (key.parameterTypes != null) {
+				for (Class<?> parameterType : key.parameterTypes) {
+					if ((parameterType != null) && !isValid(parameterType, new HashSet<>())) {
+						return null;
+					}
+				}
+			}
+			Class<?>[] classesOfHierarchy = cache.getMetadata(key.cls).getHierarchy().classes;
+			Collection<Member> members = new LinkedHashSet<>();
+			for (MemberReference memberReference : memberReferences) {
+				Class<?> declaringClass = findByName(classesOfHierarchy, memberReference.declaringClassName);
+				if (declaringClass == null) {
+					return null;
+				}
+				Member member = resolve(declaringClass, memberReference);
+				if (member == null) {
+					return null;
+				}
+				//Only the members that were accessible when the snapshot was written are made accessible, as the
+				//live path did. If it fails the entry is loaded through the supplier
+				if (memberReference.accessible) {
+					try {
+						cache.getFacade().setAccessible((AccessibleObject)member, true);
+					} catch (Throwable exc) {
+						return null;
+					}
+				}
+				members.add(member);
+			}
+			return Collections.unmodifiableCollection(members);
+		}
+
+		Map<String, MemberReference[]> readEntries(int entriesOffset) {
+			ByteBuffer entries = buffer.duplicate();
+			entries.position(entriesBase + entriesOffset);
+			int entryCount = entries.getInt();
+			Map<String, MemberReference[]> entriesOfClass = new HashMap<>();
+			for (int i = 0; i < entryCount; i++) {
+				String entryKey = readString(entries);
+				MemberReference[] memberReferences = new MemberReference[entries.getInt()];
+				for (int j = 0; j < memberReferences.length; j++) {
+					String declaringClassName = readString(entries);
+					byte kind = entries.get();
+					String name = readString(entries);
+					String descriptor = readString(entries);
+					memberReferences[j] = new MemberReference(
+						declaringClassName, kind, name, descriptor, entries.getInt(), entries.get() != 0
+					);
+				}
+				entriesOfClass.put(entryKey, memberReferences);
+			}
+			return entriesOfClass;
+		}
+
+		boolean isValid(Class<?> cls, Set<Class<?>> visitedClasses) {
+			if (!visitedClasses.add(cls)) {
+				return true;
+			}
+			ClassRecord classRecord = classRecords.get(cls.getName());
+			if ((classRecord == null) || (classRecord.fingerprint == UNVERIFIABLE) ||
+				(classRecord.fingerprint != cache.getMetadata(cls).getFingerprint())
+			) {
+				return false;
+			}
+			if ((cls.getSuperclass() != null) && !isValid(cls.getSuperclass(), visitedClasses)) {
+				return false;
+			}
+			for (Class<?> iface : cls.getInterfaces()) {
+				if (!isValid(iface, visitedClasses)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static Class<?> findByName(Class<?>[] classes, String className) {
+			for (Class<?> cls : classes) {
+				if (cls.getName().equals(className)) {
+					return cls;
+				}
+			}
+			return null;
+		}
+
+		//The members are taken from the arrays of the class metadata. Since the class file of the declaring class
+		//is unchanged, a member whose name and modifiers match a single candidate is that candidate: the
+		//descriptors are computed only to tell overloads apart
+		Member resolve(Class<?> declaringClass, MemberReference memberReference) {
+			ClassMetadata classMetadata = cache.getMetadata(declaringClass);
+			Member[] candidates =
+				memberReference.kind == FIELD ? classMetadata.getDeclaredFields(memberReference.name) :
+				memberReference.kind == METHOD ? classMetadata.getDeclaredMethods(memberReference.name) :
+				classMetadata.getDeclaredConstructors();
+			Member resolved = null;
+			for (Member candidate : candidates) {
+				if ((candidate.getModifiers() == memberReference.modifiers) && candidate.getName().equals(memberReference.name)) {
+					if (resolved != null) {
+						return resolveByDescriptor(candidates, memberReference);
+					}
+					resolved = candidate;
+				}
+			}
+			return resolved;
+		}
+
+		Member resolveByDescriptor(Member[] candidates, MemberReference memberReference) {
+			for (Member candidate : candidates) {
+				if ((candidate.getModifiers() == memberReference.modifiers) &&
+					candidate.getName().equals(memberReference.name) &&
+					getDescriptor(candidate).equals(memberReference.descriptor)
+				) {
+					return candidate;
+				}
+			}
+			return null;
+		}
+
+		static class ClassRecord {
+			final long fingerprint;
+			final int entriesOffset;
+
+			ClassRecord(long fingerprint, int entriesOffset) {
+				this.fingerprint = fingerprint;
+				this.entriesOffset = entriesOffset;
+			}
+
+		}
+
+		static class MemberReference {
+			final String declaringClassName;
+			final byte kind;
+			final String name;
+			final String descriptor;
+			final int modifiers;
+			final boolean accessible;
+
+			MemberReference(String declaringClassName, byte kind, String name, String descriptor, int modifiers, boolean accessible) {
+				this.declaringClassName = declaringClassName;
+				this.kind = kind;
+				this.name = name;
+				this.descriptor = descriptor;
+				this.modifiers = modifiers;
+				this.accessible = accessible;
+			}
+
+		}
+
+	}
+
+	static class Cleaner {
+		final ThreadPoolExecutor executor;
+		Batch pendingBatch;
+
+		Cleaner() {
+			//A single pending batch is ever queued because the clears submitted while it waits are merged into it
+			executor = new ThreadPoolExecutor(
+				1, 1, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(1),
+				runnable -> {
+					Thread thread = new Thread(runnable, "Burningwave Reflection - Cache cleaner");
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy()
+			);
+			executor.allowCoreThreadTimeOut(true);
+		}
+
+		static void run(Collection<Runnable> tasks, CompletableFuture<Void> cleaning) {
+			Throwable exception = null;
+			for (Runnable task : tasks) {
+				try {
+					task.run();
+				} catch (Throwable exc) {
+					exception = exc;
+				}
+			}
+			if (exception == null) {
+				cleaning.complete(null);
+			} else {
+				cleaning.completeExceptionally(exception);
+			}
+		}
+
+		CompletableFuture<Void> submit(Collection<Runnable> tasks) {
+			Batch batch;
+			boolean execute = false;
+			synchronized (this) {
+				batch = pendingBatch;
+				if (batch == null) {
+					pendingBatch = batch = new Batch();
+					execute = true;
+				}
+				batch.tasks.addAll(tasks);
+			}
+			if (execute) {
+				executor.execute(batch);
+			}
+			return batch.cleaning;
+		}
+
+		class Batch implements Runnable {
+			final Collection<Runnable> tasks;
+			final CompletableFuture<Void> cleaning;
+
+			Batch() {
+				this.tasks = new ArrayList<>();
+				this.cleaning = new CompletableFuture<>();
+			}
+
+			@Override
+			public void run() {
+				synchronized (Cleaner.this) {
+					if (pendingBatch == this) {
+						pendingBatch = null;
+					}
+				}
+				Cleaner.run(tasks, cleaning);
+			}
+
+		}
+
+	}
+
+	static final class Key {
+		static final ClassLoader SYSTEM_CLASS_LOADER = ClassLoader.getSystemClassLoader();
+
+		final Class<?> cls;
+		final String operation;
+		final String name;
+		final Class<?>[] parameterTypes;
+		final Class<?> classLoaderScope;
+		final int hashCode;
+
+		Key(Class<?> cls, String operation, String name, Class<?>... parameterTypes) {
+			this.cls = cls;
+			this.operation = operation;
+			this.name = name;
+			this.parameterTypes = parameterTypes;
+			this.classLoaderScope = retrieveClassLoaderScope(cls, parameterTypes);
+			int hashCode = System.identityHashCode(cls);
+			hashCode = (31 * hashCode) + operation.hashCode();
+			hashCode = (31 * hashCode) + (name != null ? name.hashCode() : 0);
+			hashCode = (31 * hashCode) + Arrays.hashCode(parameterTypes);
+			this.hashCode = hashCode;
+		}
+
+		//The entry is stored in the segment of the most specific class loader among the ones that define the owner
+		//and the parameter types, so that a key never keeps alive a class loader deeper than the one of its segment
+		static Class<?> retrieveClassLoaderScope(Class<?> cls, Class<?>[] parameterTypes) {
+			Class<?> classLoaderScope = cls;
+			if (parameterTypes != null) {
+				for (Class<?> parameterType : parameterTypes) {
+					if ((parameterType != null) && isDefinedByADescendantClassLoader(parameterType, classLoaderScope)) {
+						classLoaderScope = parameterType;
+					}
+				}
+			}
+			return classLoaderScope;
+		}
+
+		static boolean isDefinedByADescendantClassLoader(Class<?> cls, Class<?> classLoaderScope) {
+			ClassLoader classLoader = cls.getClassLoader();
+			ClassLoader classLoaderOfScope = classLoaderScope.getClassLoader();
+			if ((classLoader == null) || (classLoader == classLoaderOfScope)) {
+				return false;
+			}
+			if (classLoaderOfScope == null) {
+				return true;
+			}
+			for (ClassLoader parent = classLoader.getParent(); parent != null; parent = parent.getParent()) {
+				if (parent == classLoaderOfScope) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		//The front caches and the frozen tables outlive the class loaders: only the keys of classes defined by the
+		//bootstrap, platform or system class loader, which are never unloaded, may be stored in them
+		static boolean isDefinedByABuiltinClassLoader(Class<?> cls) {
+			ClassLoader classLoader = cls.getClassLoader();
+			if (classLoader == null) {
+				return true;
+			}
+			for (ClassLoader builtinClassLoader = SYSTEM_CLASS_LOADER; builtinClassLoader != null; builtinClassLoader = builtinClassLoader.getParent()) {
+				if (builtinClassLoader == classLoader) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key key = (Key)object;
+			return (hashCode == key.hashCode) &&
+				(cls == key.cls) &&
+				operation.equals(key.operation) &&
+				(name != null ? name.equals(key.name) : key.name == null) &&
+				Arrays.equals(parameterTypes, key.parameterTypes);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder key = new StringBuilder("/").append(cls.getName()).append("@").append(System.identityHashCode(cls))
+				.append("/").append(operation);
+			if (name != null) {
+				key.append(" ").append(name);
+			}
+			if (parameterTypes != null) {
+				for (Class<?> parameterType : parameterTypes) {
+					key.append("/").append(parameterType != null ? parameterType.getName() : "null");
+				}
+			} else {
+				key.append("/null");
+			}
+			return key.toString();
+		}
+
+	}
+
+	//The victims are sampled from the tables: the least frequently used among a few entries read from a random
+	//position is compared with the inserted entry, so no record of the inserted keys has to be kept
+	static class Eviction {
+		static final int SAMPLE_SIZE = 8;
+
+		final long maximum;
+		final boolean weighByEstimatedSize;
+		final PathForResources<?>[] pathsForResources;
+		final FrequencySketch sketch;
+		final ReadBuffer readBuffer;
+		final AtomicLong weightedSize;
+		final ReentrantLock evictionLock;
+
+		Eviction(long maximum, boolean weighByEstimatedSize, PathForResources<?>[] pathsForResources) {
+			this.maximum = maximum;
+			this.weighByEstimatedSize = weighByEstimatedSize;
+			this.pathsForResources = pathsForResources;
+			this.sketch = new FrequencySketch(weighByEstimatedSize ? maximum / 512 : maximum);
+			this.readBuffer = new ReadBuffer();
+			this.weightedSize = new AtomicLong();
+			this.evictionLock = new ReentrantLock();
+		}
+
+		//The accesses are buffered and replayed on the sketch, which is only modified under the eviction lock:
+		//when the lock is busy or the buffer of the thread is full they are dropped
+		void recordAccess(Key key) {
+			if (readBuffer.offer(key) && evictionLock.tryLock()) {
+				try {
+					readBuffer.drainTo(sketch);
+				} finally {
+					evictionLock.unlock();
+				}
+			}
+		}
+
+		void recordInsertion(Object resource) {
+			weightedSize.addAndGet(weigh(resource));
+		}
+
+		void recordRemoval(Object resource) {
+			weightedSize.addAndGet(-weigh(resource));
+		}
+
+		void evict(PathForResources<?> pathOfCandidate, Key candidate) {
+			if ((weightedSize.get() <= maximum) || !evictionLock.tryLock()) {
+				return;
+			}
+			try {
+				readBuffer.drainTo(sketch);
+				List<PathForResources<?>> pathsOfTables = new ArrayList<>();
+				List<ResourceTable<?>> tables = new ArrayList<>();
+				for (PathForResources<?> pathForResources : pathsForResources) {
+					for (PathForResources.Segment<?> segment : pathForResources.getSegments()) {
+						pathsOfTables.add(pathForResources);
+						tables.add(segment.resources);
+					}
+				}
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				while ((weightedSize.get() > maximum) && !tables.isEmpty()) {
+					int firstTableIndex = random.nextInt(tables.size());
+					PathForResources<?> pathOfVictim = null;
+					Key victim = null;
+					int victimFrequency = Integer.MAX_VALUE;
+					int sampleSize = 0;
+					for (int i = 0; (i < tables.size()) && (sampleSize < SAMPLE_SIZE); i++) {
+						int tableIndex = (firstTableIndex + i) % tables.size();
+						ResourceTable<?> table = tables.get(tableIndex);
+						int firstStripeIndex = random.nextInt(table.stripes.length);
+						for (int j = 0; (j < table.stripes.length) && (sampleSize < SAMPLE_SIZE); j++) {
+							AtomicReferenceArray<? extends ResourceTable.Node<?>> nodes =
+								table.stripes[(firstStripeIndex + j) & table.stripeMask].nodes;
+							int mask = nodes.length() - 1;
+							int firstNodeIndex = random.nextInt(nodes.length());
+							for (int k = 0; (k <= mask) && (sampleSize < SAMPLE_SIZE); k++) {
+								ResourceTable.Node<?> node = nodes.get((firstNodeIndex + k) & mask);
+								if ((node != null) && (node.key != null)) {
+									++sampleSize;
+									int frequency = sketch.frequency(node.key.hashCode);
+									if (frequency < victimFrequency) {
+										pathOfVictim = pathsOfTables.get(tableIndex);
+										victim = node.key;
+										victimFrequency = frequency;
+									}
+								}
+							}
+						}
+					}
+					if (victim == null) {
+						return;
+					}
+					if ((candidate != null) && (victim != candidate) &&
+						(victimFrequency >= sketch.frequency(candidate.hashCode))
+					) {
+						pathOfVictim = pathOfCandidate;
+						victim = candidate;
+						candidate = null;
+					}
+					if (pathOfVictim.remove(victim, true) != null) {
+						pathOfVictim.statisticsCounter.evictionCount.increment();
+					}
+				}
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+
+		void recalculateWeightedSize() {
+			long weightedSize = 0;
+			for (PathForResources<?> pathForResources : pathsForResources) {
+				for (PathForResources.Segment<?> segment : pathForResources.getSegments()) {
+					for (ResourceTable.Stripe<?> stripe : segment.resources.stripes) {
+						AtomicReferenceArray<? extends ResourceTable.Node<?>> nodes = stripe.nodes;
+						for (int i = 0; i < nodes.length(); i++) {
+							ResourceTable.Node<?> node = nodes.get(i);
+							if ((node != null) && (node.key != null)) {
+								weightedSize += weigh(node.value);
+							}
+						}
+					}
+				}
+			}
+			this.weightedSize.set(weightedSize);
+		}
+
+		long weigh(Object resource) {
+			if (!weighByEstimatedSize) {
+				return 1;
+			}
+			//Estimated shallow size of the key, of the map node and of the cached container: the members
+			//themselves are shared with the declared members arrays and are not counted
+			long size = 112;
+			if (resource instanceof Collection) {
+				size += 64 + (48L * ((Collection<?>)resource).size());
+			} else if (resource instanceof Object[]) {
+				size += 16 + (8L * ((Object[])resource).length);
+			} else if (resource instanceof Members.Handler.OfExecutable.Box) {
+				size += 160;
+			} else {
+				size += 32;
+			}
+			return size;
+		}
+
+	}
+
+	//Lossy striped buffer of the accessed keys: each stripe is a ring written by the threads mapped on it
+	//through a compare and set on its write counter and read by the only thread that holds the eviction lock
+	static class ReadBuffer {
+		static final int STRIPE_SIZE = 16;
+		static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+		final Stripe[] stripes;
+		final int stripesMask;
+
+		ReadBuffer() {
+			int numberOfStripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 2;
+			this.stripes = new Stripe[numberOfStripes];
+			for (int i = 0; i < numberOfStripes; i++) {
+				stripes[i] = new Stripe();
+			}
+			this.stripesMask = numberOfStripes - 1;
+		}
+
+		//Returns true when the stripe is full and should be drained
+		boolean offer(Key key) {
+			long threadId = Thread.currentThread().getId();
+			int hash = (int)(threadId ^ (threadId >>> 32)) * 0x9e3779b9;
+			Stripe stripe = stripes[(hash ^ (hash >>> 16)) & stripesMask];
+			int writeCount = stripe.writeCount.get();
+			int pendingCount = writeCount - stripe.readCount;
+			if (pendingCount >= STRIPE_SIZE) {
+				return true;
+			}
+			if (stripe.writeCount.compareAndSet(writeCount, writeCount + 1)) {
+				stripe.keys.lazySet(writeCount & STRIPE_MASK, key);
+			}
+			return pendingCount + 1 >= STRIPE_SIZE;
+		}
+
+		void drainTo(FrequencySketch sketch) {
+			for (Stripe stripe : stripes) {
+				int readCount = stripe.readCount;
+				int writeCount = stripe.writeCount.get();
+				for (; readCount != writeCount; readCount++) {
+					int index = readCount & STRIPE_MASK;
+					Key key = stripe.keys.get(index);
+					if (key == null) {
+						//Not published yet by its writer
+						break;
+					}
+					stripe.keys.lazySet(index, null);
+					sketch.increment(key.hashCode);
+				}
+				stripe.readCount = readCount;
+			}
+		}
+
+		static class Stripe {
+			final AtomicInteger writeCount;
+			final AtomicReferenceArray<Key> keys;
+			volatile int readCount;
+
+			Stripe() {
+				this.writeCount = new AtomicInteger();
+				this.keys = new AtomicReferenceArray<>(STRIPE_SIZE);
+			}
+
+		}
+
+	}
+
+	//Modified and read only under the eviction lock
+	static class FrequencySketch {
+		static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+		static final long RESET_MASK = 0x7777777777777777L;
+		static final long ONE_MASK = 0x1111111111111111L;
+
+		final long[] table;
+		final int sampleSize;
+		int size;
+
+		FrequencySketch(long expectedNumberOfEntries) {
+			int length = Integer.highestOneBit((int)Math.max(16, Math.min(expectedNumberOfEntries, 1 << 24)) - 1) << 1;
+			this.table = new long[length];
+			this.sampleSize = 10 * length;
+		}
+
+		int frequency(int hashCode) {
+			int hash = spread(hashCode);
+			int start = (hash & 3) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int count = (int)((table[index] >>> ((start + i) << 2)) & 0xfL);
+				frequency = Math.min(frequency, count);
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			int hash = spread(hashCode);
+			int start = (hash & 3) << 2;
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				added |= incrementAt(indexOf(hash, i), start + i);
+			}
+			if (added && (++size >= sampleSize)) {
+				reset();
+			}
+		}
+
+		boolean incrementAt(int index, int counter) {
+			int offset = counter << 2;
+			long mask = (0xfL << offset);
+			if ((table[index] & mask) != mask) {
+				table[index] += (1L << offset);
+				return true;
+			}
+			return false;
+		}
+
+		int indexOf(int hash, int row) {
+			long index = (hash + SEEDS[row]) * SEEDS[row];
+			index += (index >>> 32);
+			return ((int)index) & (table.length - 1);
+		}
+
+		void reset() {
+			int count = 0;
+			for (int i = 0; i < table.length; i++) {
+				count += Long.bitCount(table[i] & ONE_MASK);
+				table[i] = (table[i] >>> 1) & RESET_MASK;
+			}
+			size = (size - (count >>> 2)) >>> 1;
+		}
+
+		int spread(int hashCode) {
+			int hash = hashCode * 0x9e3779b9;
+			return hash ^ (hash >>> 16);
+		}
+
+	}
+
+	//Flat hash table striped for writes: each stripe is an open addressing table with linear probing, read
+	//without locks through the volatile semantics of AtomicReferenceArray and modified under the stripe monitor
+	static class ResourceTable<R> {
+		static final int DEFAULT_NUMBER_OF_STRIPES = 16;
+		static final int INITIAL_STRIPE_CAPACITY = 8;
+
+		final Stripe<R>[] stripes;
+		final int stripeMask;
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		ResourceTable(int numberOfStripes) {
+			numberOfStripes = numberOfStripes > 1 ? Integer.highestOneBit(numberOfStripes - 1) << 1 : 1;
+			this.stripes = new Stripe[numberOfStripes];
+			for (int i = 0; i < numberOfStripes; i++) {
+				stripes[i] = new Stripe<>();
+			}
+			this.stripeMask = numberOfStripes - 1;
+		}
+
+		static int spread(int hashCode) {
+			int hash = hashCode * 0x9e3779b9;
+			return hash ^ (hash >>> 16);
+		}
+
+		R get(Key key) {
+			int hash = spread(key.hashCode);
+			return stripes[(hash >>> 24) & stripeMask].get(key, hash);
+		}
+
+		R put(Key key, R resource) {
+			int hash = spread(key.hashCode);
+			return stripes[(hash >>> 24) & stripeMask].put(key, hash, resource);
+		}
+
+		R remove(Key key) {
+			int hash = spread(key.hashCode);
+			return stripes[(hash >>> 24) & stripeMask].remove(key, hash, null);
+		}
+
+		boolean remove(Key key, R resource) {
+			int hash = spread(key.hashCode);
+			return stripes[(hash >>> 24) & stripeMask].remove(key, hash, resource) != null;
+		}
+
+		int size() {
+			int size = 0;
+			for (Stripe<R> stripe : stripes) {
+				size += stripe.size;
+			}
+			return size;
+		}
+
+		void forEach(BiConsumer<Key, R> action) {
+			for (Stripe<R> stripe : stripes) {
+				AtomicReferenceArray<Node<R>> nodes = stripe.nodes;
+				for (int i = 0; i < nodes.length(); i++) {
+					Node<R> node = nodes.get(i);
+					if ((node != null) && (node.key != null)) {
+						action.accept(node.key, node.value);
+					}
+				}
+			}
+		}
+
+		static class Node<R> {
+			@SuppressWarnings("rawtypes")
+			static final Node REMOVED = new Node<>(null, null);
+
+			final Key key;
+			final R value;
+
+			Node(Key key, R value) {
+				this.key = key;
+				this.value = value;
+			}
+
+		}
+
+		static class Stripe<R> {
+			volatile AtomicReferenceArray<Node<R>> nodes;
+			volatile int size;
+			int usedSlots;
+
+			Stripe() {
+				this.nodes = new AtomicReferenceArray<>(INITIAL_STRIPE_CAPACITY);
+			}
+
+			R get(Key key, int hash) {
+				AtomicReferenceArray<Node<R>> nodes = this.nodes;
+				int mask = nodes.length() - 1;
+				for (int index = hash & mask, probes = 0; probes <= mask; index = (index + 1) & mask, probes++) {
+					Node<R> node = nodes.get(index);
+					if (node == null) {
+						return null;
+					}
+					if (key.equals(node.key)) {
+						return node.value;
+					}
+				}
+				return null;
+			}
+
+			@SuppressWarnings("unchecked")
+			synchronized R put(Key key, int hash, R resource) {
+				AtomicReferenceArray<Node<R>> nodes = this.nodes;
+				int mask = nodes.length() - 1;
+				int freeIndex = -1;
+				for (int index = hash & mask, probes = 0; probes <= mask; index = (index + 1) & mask, probes++) {
+					Node<R> node = nodes.get(index);
+					if (node == null) {
+						if (freeIndex < 0) {
+							freeIndex = index;
+						}
+						break;
+					}
+					if (node == Node.REMOVED) {
+						if (freeIndex < 0) {
+							freeIndex = index;
+						}
+					} else if (key.equals(node.key)) {
+						nodes.set(index, new Node<>(key, resource));
+						return node.value;
+					}
+				}
+				if ((freeIndex < 0) || (nodes.get(freeIndex) == null && ((usedSlots + 1) << 1) > nodes.length())) {
+					resize();
+					return put(key, hash, resource);
+				}
+				if (nodes.get(freeIndex) == null) {
+					++usedSlots;
+				}
+				nodes.set(freeIndex, new Node<>(key, resource));
+				++size;
+				return null;
+			}
+
+			@SuppressWarnings("unchecked")
+			synchronized R remove(Key key, int hash, R resource) {
+				AtomicReferenceArray<Node<R>> nodes = this.nodes;
+				int mask = nodes.length() - 1;
+				for (int index = hash & mask, probes = 0; probes <= mask; index = (index + 1) & mask, probes++) {
+					Node<R> node = nodes.get(index);
+					if (node == null) {
+						return null;
+					}
+					if (key.equals(node.key)) {
+						if ((resource != null) && (node.value != resource)) {
+							return null;
+						}
+						nodes.set(index, Node.REMOVED);
+						--size;
+						return node.value;
+					}
+				}
+				return null;
+			}
+
+			//Removed slots are dropped while rehashing, so the table grows only if the live nodes need it
+			void resize() {
+				AtomicReferenceArray<Node<R>> oldNodes = this.nodes;
+				int capacity = oldNodes.length();
+				while (((size + 1) << 1) > capacity) {
+					capacity <<= 1;
+				}
+				AtomicReferenceArray<Node<R>> nodes = new AtomicReferenceArray<>(Math.max(capacity, INITIAL_STRIPE_CAPACITY));
+				int mask = nodes.length() - 1;
+				for (int i = 0; i < oldNodes.length(); i++) {
+					Node<R> node = oldNodes.get(i);
+					if ((node != null) && (node.key != null)) {
+						int index = spread(node.key.hashCode) & mask;
+						while (nodes.get(index) != null) {
+							index = (index + 1) & mask;
+						}
+						nodes.set(index, node);
+					}
+				}
+				this.usedSlots = size;
+				this.nodes = nodes;
+			}
+
+		}
+
+	}
+
+	//Direct mapped: a key replaces whatever occupies its slot. The slots are emptied as soon as the epoch
+	//of the path differs from the one they were filled in
+	static class FrontCache<R> {
+		final Key[] keys;
+		final Object[] resources;
+		final int mask;
+		long epoch;
+
+		FrontCache(int size, long epoch) {
+			size = size > 1 ? Integer.highestOneBit(size - 1) << 1 : 1;
+			this.keys = new Key[size];
+			this.resources = new Object[size];
+			this.mask = size - 1;
+			this.epoch = epoch;
+		}
+
+		@SuppressWarnings("unchecked")
+		R get(Key key, long epoch) {
+			if (this.epoch != epoch) {
+				Arrays.fill(keys, null);
+				Arrays.fill(resources, null);
+				this.epoch = epoch;
+				return null;
+			}
+			int index = ResourceTable.spread(key.hashCode) & mask;
+			Key cachedKey = keys[index];
+			return (cachedKey == key) || ((cachedKey != null) && cachedKey.equals(key)) ?
+				(R)resources[index] :
+				null;
+		}
+
+		void put(Key key, R resource, long epoch) {
+			if (this.epoch == epoch) {
+				int index = ResourceTable.spread(key.hashCode) & mask;
+				keys[index] = key;
+				resources[index] = resource;
+			}
+		}
+
+	}
+
+	//Immutable open addressing table filled at most by half, so that a lookup is a short run of plain array
+	//reads. It is replaced, never modified, when some of its entries are removed
+	static class FrozenTable<R> {
+		final Key[] keys;
+		final Object[] resources;
+		final int mask;
+		final int size;
+		final boolean overflowEnabled;
+
+		FrozenTable(Collection<Entry<Key, R>> entries, boolean overflowEnabled) {
+			int capacity = Integer.highestOneBit(Math.max(entries.size(), 1)) << 2;
+			this.keys = new Key[capacity];
+			this.resources = new Object[capacity];
+			this.mask = capacity - 1;
+			this.size = entries.size();
+			this.overflowEnabled = overflowEnabled;
+			for (Entry<Key, R> entry : entries) {
+				int index = ResourceTable.spread(entry.getKey().hashCode) & mask;
+				while (keys[index] != null) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = entry.getKey();
+				resources[index] = entry.getValue();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		R get(Key key) {
+			int index = ResourceTable.spread(key.hashCode) & mask;
+			for (Key cachedKey; (cachedKey = keys[index]) != null; index = (index + 1) & mask) {
+				if ((cachedKey == key) || cachedKey.equals(key)) {
+					return (R)resources[index];
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		FrozenTable<R> without(Predicate<Key> keyPredicate) {
+			Collection<Entry<Key, R>> entries = new ArrayList<>();
+			for (int i = 0; i < keys.length; i++) {
+				if ((keys[i] != null) && !keyPredicate.test(keys[i])) {
+					entries.add(new AbstractMap.SimpleImmutableEntry<>(keys[i], (R)resources[i]));
+				}
+			}
+			return entries.size() < size ?
+				new FrozenTable<>(entries, overflowEnabled) :
+				this;
+		}
+
+	}
+
+	static class PathForResources<R> {
+		static final Object BOOTSTRAP_CLASS_LOADER = new Object();
+
+		final String name;
+		final StatisticsCounter statisticsCounter;
+		BiConsumer<Key, R> itemDestroyer;
+		ClassValue<Segment<R>> segmentForClass;
+		Map<ClassLoaderKey, SegmentReference<R>> segments;
+		ReferenceQueue<Segment<R>> unloadedSegments;
+		volatile int numberOfStripes;
+		volatile Function<Key, R> rehydrator;
+		Map<Key, Loading<R>> loadings;
+		Function<R, R> sharer;
+		volatile Eviction eviction;
+		volatile ThreadLocal<FrontCache<R>> frontCaches;
+		volatile FrozenTable<R> frozenResources;
+		//Incremented after every removal, it invalidates the front caches
+		final AtomicLong epoch;
+
+		private PathForResources(String name) {
+			this(name, item -> item, null);
+		}
+
+		private PathForResources(String name, BiConsumer<Key, R> itemDestroyer) {
+			this(name, item -> item, itemDestroyer);
+		}
+
+		private PathForResources(String name, Function<R, R> sharer) {
+			this(name, sharer, null);
+		}
+
+		private PathForResources(String name, Function<R, R> sharer, BiConsumer<Key, R> itemDestroyer) {
+			this.name = name;
+			this.statisticsCounter = new StatisticsCounter(this);
+			this.sharer = sharer;
+			this.numberOfStripes = ResourceTable.DEFAULT_NUMBER_OF_STRIPES;
+			this.segments = new ConcurrentHashMap<>();
+			this.unloadedSegments = new ReferenceQueue<>();
+			//The segment is strongly reachable only from the classes of its class loader, so it becomes
+			//collectable together with them
+			this.segmentForClass = new ClassValue<Segment<R>>() {
+				@Override
+				protected Segment<R> computeValue(Class<?> cls) {
+					return retrieveSegment(cls.getClassLoader());
+				}
+			};
+			this.loadings = new ConcurrentHashMap<>();
+			this.itemDestroyer = itemDestroyer;
+			this.epoch = new AtomicLong();
+		}
+
+		R get(Key key) {
+			return getOrUploadIfAbsent(key, null);
+		}
+
+		boolean contains(Key key) {
+			return retrieveResources(key).get(key) != null;
+		}
+
+		int getLoadedResourcesCount() {
+			purgeSegmentsOfUnloadedClassLoaders();
+			int count = 0;
+			for (Segment<R> segment : getSegments()) {
+				count += segment.resources.size();
+			}
+			return count;
+		}
+
+		R getOrUploadIfAbsent(Key key, Supplier<R> resourceSupplier) {
+			ThreadLocal<FrontCache<R>> frontCaches = this.frontCaches;
+			FrontCache<R> frontCache = null;
+			long epoch = 0;
+			if (frontCaches != null) {
+				//The epoch is read before the shared lookup so that a resource removed in the meantime is not
+				//stored in the front cache
+				epoch = this.epoch.get();
+				frontCache = frontCaches.get();
+				R resource = frontCache.get(key, epoch);
+				if (resource != null) {
+					return resource;
+				}
+			}
+			Eviction eviction = this.eviction;
+			if (eviction != null) {
+				eviction.recordAccess(key);
+			}
+			FrozenTable<R> frozenResources = this.frozenResources;
+			if ((frozenResources != null) && Key.isDefinedByABuiltinClassLoader(key.classLoaderScope)) {
+				R resource = frozenResources.get(key);
+				if (resource != null) {
+					return sharer.apply(resource);
+				}
+				if (!frozenResources.overflowEnabled) {
+					return resourceSupplier != null ? resourceSupplier.get() : null;
+				}
+			}
+			R resource = getOrUploadIfAbsent(retrieveResources(key), key, resourceSupplier);
+			if ((frontCache != null) && (resource != null) && Key.isDefinedByABuiltinClassLoader(key.classLoaderScope)) {
+				frontCache.put(key, resource, epoch);
+			}
+			return resource;
+		}
+
+		void freeze(boolean overflowEnabled) {
+			synchronized (this.segments) {
+				purgeSegmentsOfUnloadedClassLoaders();
+				Collection<Entry<Key, R>> entries = new ArrayList<>();
+				for (Segment<R> segment : getSegments()) {
+					segment.resources.forEach((key, resource) -> {
+						if (Key.isDefinedByABuiltinClassLoader(key.classLoaderScope)) {
+							entries.add(new AbstractMap.SimpleImmutableEntry<>(key, resource));
+						}
+					});
+				}
+				this.frozenResources = new FrozenTable<>(entries, overflowEnabled);
+			}
+		}
+
+		void unfreeze() {
+			synchronized (this.segments) {
+				this.frozenResources = null;
+			}
+		}
+
+		//Called after the removal from the mutable tables, which are the ones read by freeze
+		void removeFromFrozenResources(Predicate<Key> keyPredicate) {
+			if (this.frozenResources != null) {
+				synchronized (this.segments) {
+					FrozenTable<R> frozenResources = this.frozenResources;
+					if (frozenResources != null) {
+						this.frozenResources = frozenResources.without(keyPredicate);
+					}
+				}
+			}
+		}
+
+		void setFrontCacheSize(int frontCacheSize) {
+			this.frontCaches = frontCacheSize > 0 ?
+				ThreadLocal.withInitial(() -> new FrontCache<>(frontCacheSize, epoch.get())) :
+				null;
+		}
+
+		R remove(Key key, boolean destroy) {
+			R item = retrieveResources(key).remove(key);
+			if (item != null) {
+				epoch.incrementAndGet();
+				onRemoval(key, item, destroy);
+			}
+			FrozenTable<R> frozenResources = this.frozenResources;
+			if ((frozenResources != null) && (frozenResources.get(key) != null)) {
+				removeFromFrozenResources(key::equals);
+			}
+			return item;
+		}
+
+		int remove(Predicate<Key> keyPredicate, boolean destroy) {
+			int[] count = {0};
+			for (Segment<R> segment : getSegments()) {
+				segment.shedKeys.removeIf(keyPredicate);
+				ResourceTable<R> resources = segment.resources;
+				resources.forEach((key, resource) -> {
+					if (keyPredicate.test(key) && resources.remove(key, resource)) {
+						onRemoval(key, resource, destroy);
+						++count[0];
+					}
+				});
+			}
+			if (count[0] > 0) {
+				epoch.incrementAndGet();
+			}
+			removeFromFrozenResources(keyPredicate);
+			return count[0];
+		}
+
+		void onRemoval(Key key, R item, boolean destroy) {
+			Eviction eviction = this.eviction;
+			if (eviction != null) {
+				eviction.recordRemoval(item);
+			}
+			if ((itemDestroyer != null) && destroy) {
+				itemDestroyer.accept(key, item);
+			}
+		}
+
+		R upload(ResourceTable<R> loadedResources, Key key, Supplier<R> resourceSupplier, boolean destroy) {
+			R oldResource = remove(key, destroy);
+			R resource = resourceSupplier.get();
+			if (resource != null) {
+				put(loadedResources, key, sharer.apply(resource));
+			}
+			return oldResource;
+		}
+
+		void put(ResourceTable<R> loadedResources, Key key, R resource) {
+			R oldResource = loadedResources.put(key, resource);
+			Eviction eviction = this.eviction;
+			if (eviction != null) {
+				purgeSegmentsOfUnloadedClassLoaders();
+				if (oldResource != null) {
+					eviction.recordRemoval(oldResource);
+				}
+				eviction.recordInsertion(resource);
+				eviction.evict(this, key);
+			}
+		}
+
+		void setEviction(Eviction eviction) {
+			this.eviction = eviction;
+		}
+
+		R upload(Key key, Supplier<R> resourceSupplier, boolean destroy) {
+			return upload(retrieveResources(key), key, resourceSupplier, destroy);
+		}
+
+		void clearResources(Collection<ResourceTable<R>> resourcesOfSegments, boolean destroyItems) {
+			if ((itemDestroyer != null) && destroyItems) {
+				for (ResourceTable<R> resources : resourcesOfSegments) {
+					resources.forEach((key, resource) -> {
+						try {
+							this.itemDestroyer.accept(key, resource);
+						} catch (Throwable exc) {
+
+						}
+					});
+				}
+			}
+		}
+
+		R getOrUploadIfAbsent(ResourceTable<R> loadedResources, Key key, Supplier<R> resourceSupplier) {
+			R resource = loadedResources.get(key);
+			if (resource != null) {
+				statisticsCounter.hitCount.increment();
+			} else {
+				statisticsCounter.missCount.increment();
+				if (resourceSupplier != null) {
+					resource = load(loadedResources, key, resourceSupplier);
+				}
+			}
+			return resource != null?
+				sharer.apply(resource) :
+				resource;
+		}
+
+		R load(ResourceTable<R> loadedResources, Key key, Supplier<R> resourceSupplier) {
+			Loading<R> loading = new Loading<>();
+			Loading<R> inFlightLoading = loadings.putIfAbsent(key, loading);
+			if (inFlightLoading != null) {
+				if (inFlightLoading.loader != Thread.currentThread()) {
+					return inFlightLoading.await();
+				}
+				return resourceSupplier.get();
+			}
+			try {
+				R resource = loadedResources.get(key);
+				if (resource == null) {
+					resource = supply(key, resourceSupplier);
+					if (resource != null) {
+						put(loadedResources, key, resource = sharer.apply(resource));
+						if (segmentForClass.get(key.classLoaderScope).shedKeys.remove(key)) {
+							statisticsCounter.reloadCount.increment();
+						}
+					}
+				}
+				loading.complete(resource);
+				return resource;
+			} catch (Throwable exc) {
+				loading.completeExceptionally(exc);
+				return Throwables.INSTANCE.throwException(exc);
+			} finally {
+				loadings.remove(key, loading);
+			}
+		}
+
+		R supply(Key key, Supplier<R> resourceSupplier) {
+			long loadStartTime = System.nanoTime();
+			try {
+				Function<Key, R> rehydrator = this.rehydrator;
+				R resource = rehydrator != null ? rehydrator.apply(key) : null;
+				if (resource == null) {
+					resource = resourceSupplier.get();
+				}
+				statisticsCounter.recordLoad(System.nanoTime() - loadStartTime, false);
+				return resource;
+			} catch (Throwable exc) {
+				statisticsCounter.recordLoad(System.nanoTime() - loadStartTime, true);
+				throw exc;
+			}
+		}
+
+		ResourceTable<R> retrieveResources(Key key) {
+			return segmentForClass.get(key.classLoaderScope).resources;
+		}
+
+		Segment<R> retrieveSegment(ClassLoader classLoader) {
+			purgeSegmentsOfUnloadedClassLoaders();
+			Segment<R> newSegment = new Segment<>(numberOfStripes);
+			while (true) {
+				SegmentReference<R> segmentReference = segments.compute(
+					new ClassLoaderKey(classLoader != null ? classLoader : BOOTSTRAP_CLASS_LOADER),
+					(classLoaderKey, oldSegmentReference) ->
+						(oldSegmentReference != null) && (oldSegmentReference.get() != null) ?
+							oldSegmentReference :
+							new SegmentReference<>(classLoaderKey, newSegment, unloadedSegments)
+				);
+				Segment<R> segment = segmentReference.get();
+				if (segment != null) {
+					return segment;
+				}
+			}
+		}
+
+		Collection<Segment<R>> getSegments() {
+			Collection<Segment<R>> segments = new ArrayList<>();
+			for (SegmentReference<R> segmentReference : this.segments.values()) {
+				Segment<R> segment = segmentReference.get();
+				if (segment != null) {
+					segments.add(segment);
+				}
+			}
+			return segments;
+		}
+
+		@SuppressWarnings("unchecked")
+		void purgeSegmentsOfUnloadedClassLoaders() {
+			boolean purged = false;
+			Reference<? extends Segment<R>> unloadedSegment;
+			while ((unloadedSegment = unloadedSegments.poll()) != null) {
+				SegmentReference<R> segmentReference = (SegmentReference<R>)unloadedSegment;
+				purged |= segments.remove(segmentReference.classLoaderKey, segmentReference);
+			}
+			Eviction eviction = this.eviction;
+			if (purged && (eviction != null)) {
+				eviction.recalculateWeightedSize();
+			}
+		}
+
+		void setNumberOfStripes(int numberOfStripes) {
+			synchronized (this.segments) {
+				this.numberOfStripes = numberOfStripes;
+				for (Segment<R> segment : getSegments()) {
+					ResourceTable<R> oldResources = segment.resources;
+					ResourceTable<R> resources = new ResourceTable<>(numberOfStripes);
+					oldResources.forEach(resources::put);
+					segment.resources = resources;
+				}
+			}
+		}
+
+		//The resources are released but their keys are kept, in the segment of their class loader, to count
+		//the reloads. Only the keys of the last shedding are kept, so they are never more than the entries
+		//that the cache held
+		int shed() {
+			int count = 0;
+			synchronized (this.segments) {
+				purgeSegmentsOfUnloadedClassLoaders();
+				for (Segment<R> segment : getSegments()) {
+					ResourceTable<R> resources = segment.resources;
+					segment.resources = new ResourceTable<>(numberOfStripes);
+					Set<Key> shedKeys = ConcurrentHashMap.newKeySet();
+					resources.forEach((key, resource) -> shedKeys.add(key));
+					segment.shedKeys = shedKeys;
+					count += resources.size();
+				}
+				frozenResources = null;
+				epoch.incrementAndGet();
+				Eviction eviction = this.eviction;
+				if (eviction != null) {
+					eviction.recalculateWeightedSize();
+				}
+			}
+			statisticsCounter.shedCount.add(count);
+			return count;
+		}
+
+		private Runnable clear(boolean destroyItems) {
+			Collection<ResourceTable<R>> resourcesOfSegments = new ArrayList<>();
+			synchronized (this.segments) {
+				purgeSegmentsOfUnloadedClassLoaders();
+				for (Segment<R> segment : getSegments()) {
+					resourcesOfSegments.add(segment.resources);
+					segment.resources = new ResourceTable<>(numberOfStripes);
+					segment.shedKeys.clear();
+				}
+				frozenResources = null;
+				epoch.incrementAndGet();
+				Eviction eviction = this.eviction;
+				if (eviction != null) {
+					eviction.recalculateWeightedSize();
+				}
+			}
+			statisticsCounter.clearCount.increment();
+			return () ->
+				clearResources(resourcesOfSegments, destroyItems);
+		}
+
+		static class Segment<R> {
+			volatile ResourceTable<R> resources;
+			volatile Set<Key> shedKeys;
+
+			Segment(int numberOfStripes) {
+				this.resources = new ResourceTable<>(numberOfStripes);
+				this.shedKeys = ConcurrentHashMap.newKeySet();
+			}
+
+		}
+
+		static class SegmentReference<R> extends WeakReference<Segment<R>> {
+			final ClassLoaderKey classLoaderKey;
+
+			SegmentReference(ClassLoaderKey classLoaderKey, Segment<R> segment, ReferenceQueue<Segment<R>> queue) {
+				super(segment, queue);
+				this.classLoaderKey = classLoaderKey;
+			}
+
+		}
+
+		static final class ClassLoaderKey extends WeakReference<Object> {
+			final int hashCode;
+
+			ClassLoaderKey(Object classLoader) {
+				super(classLoader);
+				this.hashCode = System.identityHashCode(classLoader);
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+
+			@Override
+			public boolean equals(Object object) {
+				if (this == object) {
+					return true;
+				}
+				if (!(object instanceof ClassLoaderKey)) {
+					return false;
+				}
+				Object classLoader = get();
+				return (classLoader != null) && (classLoader == ((ClassLoaderKey)object).get());
+			}
+
+		}
+
+		static class Loading<R> extends CompletableFuture<R> {
+			final Thread loader;
+
+			Loading() {
+				this.loader = Thread.currentThread();
+			}
+
+			R await() {
+				try {
+					return join();
+				} catch (CompletionException exc) {
+					return Throwables.INSTANCE.throwException(exc.getCause());
+				}
+			}
+
+		}
+
 	}
 
 }
@@ -29,6 +29,7 @@
 package org.burningwave.reflection;
 
 import java.lang.reflect.Constructor;
+import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -39,6 +40,15 @@ public class ConstructorCriteria extends ExecutableMemberCriteria<
 		super();
 	}
 
+	private ConstructorCriteria(boolean immutable) {
+		super(immutable);
+	}
+
+	@Override
+	ConstructorCriteria newInstance(boolean immutable) {
+		return new ConstructorCriteria(immutable);
+	}
+
 	public static ConstructorCriteria byScanUpTo(BiPredicate<Class<?>, Class<?>> predicate) {
 		return new ConstructorCriteria().scanUpTo(predicate);
 	}
@@ -54,14 +64,14 @@ public class ConstructorCriteria extends ExecutableMemberCriteria<
 	}
 
 	@Override
-	Function<Class<?>, Constructor<?>[]> getMembersSupplierFunction() {
-		return clazz -> {
-			return Cache.INSTANCE.uniqueKeyForConstructorsArray.getOrUploadIfAbsent(
-				Constructors.INSTANCE.getCacheKey(clazz, Members.ALL_FOR_CLASS), () -> {
-					return Facade.INSTANCE.getDeclaredConstructors(clazz);
-				}
-			);
-		};
+	Function<Class<?>, Constructor<?>[]> getMembersSupplierFunction(Cache cache) {
+		return clazz ->
+			cache.getMetadata(clazz).getDeclaredConstructors();
+	}
+
+	@Override
+	Cache.PathForResources<Collection<Constructor<?>>> getPathForResults(Cache cache) {
+		return cache.uniqueKeyForConstructors;
 	}
 
-}
\ No newline at end of file
+}
@@ -36,6 +36,7 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.burningwave.Classes;
@@ -48,16 +49,18 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 	public final static Constructors INSTANCE;
 
 	static {
-		INSTANCE = new Constructors();
+		INSTANCE = new Constructors(Facade.INSTANCE);
 	}
 
-	private Constructors() {}
+	Constructors(Facade facade) {
+		super(facade);
+	}
 
 	public Collection<Constructor<?>> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		Collection<Constructor<?>> members = Cache.INSTANCE.uniqueKeyForConstructors.getOrUploadIfAbsent(
-				getCacheKey(targetClass, Members.ALL_FOR_CLASS), () -> {
+		Collection<Constructor<?>> members = cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
+				getCacheKey(targetClass, Members.ALL_FOR_CLASS, null, (Class<?>[])null), () -> {
 				return findAllAndApply(
 					ConstructorCriteria.withoutConsideringParentClasses(), targetClass, (member) ->
 					setAccessible(member, true)
@@ -71,8 +74,8 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		Class<?> targetClass,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		String cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS + " by input parameters assignable from", inputParameterTypesOrSubTypes);
-		return Cache.INSTANCE.uniqueKeyForConstructors.getOrUploadIfAbsent(cacheKey, () -> {
+		Cache.Key cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS + " by input parameters assignable from", null, inputParameterTypesOrSubTypes);
+		return cache.uniqueKeyForConstructors.getOrUploadIfAbsent(cacheKey, () -> {
 			ConstructorCriteria criteria = ConstructorCriteria.withoutConsideringParentClasses().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
 			if (inputParameterTypesOrSubTypes != null && inputParameterTypesOrSubTypes.length == 0) {
 				criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
@@ -90,6 +93,12 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		return findDirectHandleBox(targetClass, inputParameterTypesOrSubTypes).getHandler();
 	}
 
+	public Optional<MethodHandle> findOptionalDirectHandle(Class<?> targetClass, Class<?>... inputParameterTypesOrSubTypes) {
+		return Optional.ofNullable(
+			findDirectHandleBoxOrNegativeEntry(targetClass, inputParameterTypesOrSubTypes).getHandler()
+		);
+	}
+
 	public Constructor<?> findFirstAndMakeItAccessible(Class<?> targetClass, Class<?>... inputParameterTypesOrSubTypes) {
 		Collection<Constructor<?>> members = findAllAndMakeThemAccessible(targetClass, inputParameterTypesOrSubTypes);
 		if (members.size() == 1) {
@@ -142,7 +151,7 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 				if (ctor == null) {
 					Throwables.INSTANCE.throwException("Constructor not found in {}", targetClass.getName());
 				}
-				return (T)Facade.INSTANCE.newInstance(
+				return (T)facade.newInstance(
 					ctor,
 					getArgumentArray(
 						ctor,
@@ -164,26 +173,19 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		);
 	}
 
-	String retrieveNameForCaching(Class<?> cls) {
-		return Classes.INSTANCE.retrieveSimpleName(cls.getName());
-	}
-
-	@Override
-	String retrieveNameForCaching(Constructor<?> constructor) {
-		return retrieveNameForCaching(constructor.getDeclaringClass());
-	}
-
 	private Members.Handler.OfExecutable.Box<Constructor<?>> findDirectHandleBox(Class<?> targetClass, Class<?>... inputParameterTypesOrSubTypes) {
-		String nameForCaching = retrieveNameForCaching(targetClass);
-		String cacheKey = getCacheKey(targetClass, "equals " + nameForCaching, inputParameterTypesOrSubTypes);
 		Members.Handler.OfExecutable.Box<Constructor<?>> entry =
-			(Box<Constructor<?>>)Cache.INSTANCE.uniqueKeyForExecutableAndMethodHandle.get(cacheKey);
-		if (entry == null) {
-			Constructor<?> ctor = findFirstAndMakeItAccessible(targetClass, inputParameterTypesOrSubTypes);
-			entry = findDirectHandleBox(
-				ctor, cacheKey
-			);
+			findDirectHandleBoxOrNegativeEntry(targetClass, inputParameterTypesOrSubTypes);
+		if (entry == Members.Handler.OfExecutable.Box.NOT_FOUND) {
+			Throwables.INSTANCE.throwException("Constructor not found in {}", targetClass.getName());
 		}
-		return entry;
+		return checkAndGetExecutableBox(entry);
+	}
+
+	private Members.Handler.OfExecutable.Box<Constructor<?>> findDirectHandleBoxOrNegativeEntry(Class<?> targetClass, Class<?>... inputParameterTypesOrSubTypes) {
+		return findDirectHandleBoxOrNegativeEntry(
+			getCacheKey(targetClass, "equals", null, inputParameterTypesOrSubTypes),
+			() -> findFirstAndMakeItAccessible(targetClass, inputParameterTypesOrSubTypes)
+		);
 	}
 }
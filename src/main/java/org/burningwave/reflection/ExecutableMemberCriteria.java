@@ -32,6 +32,7 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
@@ -46,42 +47,47 @@ public abstract class ExecutableMemberCriteria<
 	T extends Criteria.TestContext<E, C>
 > extends MemberCriteria<E, C, T> {
 
+	ExecutableMemberCriteria() {
+		super();
+	}
+
+	ExecutableMemberCriteria(boolean immutable) {
+		super(immutable);
+	}
+
 	public C parameter(final BiPredicate<Parameter[], Integer> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			getPredicateWrapper(
 				(testContext, member) -> member.getParameters(),
 				(testContext, array, index) -> predicate.test(array, index)
 			)
 		);
-		return (C)this;
 	}
 
 	public C parameterType(final BiPredicate<Class<?>[], Integer> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			getPredicateWrapper(
 				(testContext, member) -> member.getParameterTypes(),
 				(testContext, array, index) -> predicate.test(array, index)
 			)
 		);
-		return (C)this;
 	}
 
 
 	public C parameterTypes(final Predicate<Class<?>[]> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			(context, member) -> predicate.test(member.getParameterTypes())
 		);
-		return (C)this;
 	}
 
 	public C parameterTypesAreAssignableFrom(Class<?>... argumentsClasses) {
-		return parameterTypesMatch(
-			(argClasses, paramTypes, innerIdx) ->
-				(argClasses.get(innerIdx) == null || Classes.INSTANCE.isAssignableFrom(paramTypes[innerIdx], argClasses.get(innerIdx))),
-			argumentsClasses
+		return addDeclarativeCondition(
+			"parameterTypesAreAssignableFrom=" + fingerprintOf(argumentsClasses), fingerprintClassesOf(argumentsClasses),
+			criteria -> criteria.parameterTypesMatch(
+				(argClasses, paramTypes, innerIdx) ->
+					(argClasses.get(innerIdx) == null || Classes.INSTANCE.isAssignableFrom(paramTypes[innerIdx], argClasses.get(innerIdx))),
+				argumentsClasses
+			)
 		);
 	}
 
@@ -91,29 +97,50 @@ public abstract class ExecutableMemberCriteria<
 
 
 	public C parameterTypesExactlyMatch(Class<?>... argumentsClasses) {
-		return parameterTypesMatch(
-			(argClasses, paramTypes, innerIdx) ->
-				(argClasses.get(innerIdx) == null || Classes.INSTANCE.getClassOrWrapper(paramTypes[innerIdx]).equals(Classes.INSTANCE.getClassOrWrapper(argClasses.get(innerIdx)))),
-			argumentsClasses
+		return addDeclarativeCondition(
+			"parameterTypesExactlyMatch=" + fingerprintOf(argumentsClasses), fingerprintClassesOf(argumentsClasses),
+			criteria -> criteria.parameterTypesMatch(
+				(argClasses, paramTypes, innerIdx) ->
+					(argClasses.get(innerIdx) == null || Classes.INSTANCE.getClassOrWrapper(paramTypes[innerIdx]).equals(Classes.INSTANCE.getClassOrWrapper(argClasses.get(innerIdx)))),
+				argumentsClasses
+			)
 		);
 	}
 
+	//A null array and null elements are marked in the fingerprint since they are not kept among its classes
+	private static String fingerprintOf(Class<?>[] argumentsClasses) {
+		if (argumentsClasses == null) {
+			return "null";
+		}
+		StringBuilder fingerprint = new StringBuilder().append(argumentsClasses.length).append(":");
+		for (Class<?> argumentClass : argumentsClasses) {
+			fingerprint.append(argumentClass != null ? '#' : '-');
+		}
+		return fingerprint.toString();
+	}
+
+	private static Class<?>[] fingerprintClassesOf(Class<?>[] argumentsClasses) {
+		return argumentsClasses != null ?
+			Arrays.stream(argumentsClasses).filter(Objects::nonNull).toArray(Class<?>[]::new) :
+			new Class<?>[0];
+	}
+
 
 	public C parameterTypesExactlyMatchTypesOf(Object... arguments) {
 		return parameterTypesAreAssignableFrom(Classes.INSTANCE.retrieveFrom(arguments));
 	}
 
-	private C parameterTypesMatch(TriPredicate<List<Class<?>>, Class<?>[], Integer> predicate, Class<?>... arguments) {
+	C parameterTypesMatch(TriPredicate<List<Class<?>>, Class<?>[], Integer> predicate, Class<?>... arguments) {
 		if (arguments == null) {
 			arguments = new Class<?>[]{null};
 		}
+		C criteria = modifiable();
 		Class<?>[] argumentsClasses = arguments;
 		if (argumentsClasses != null && argumentsClasses.length > 0) {
 			List<Class<?>> argumentsClassesAsList = Arrays.asList(argumentsClasses);
 			for (int i = 0; i < argumentsClasses.length; i++) {
 				final int index = i;
-				this.predicate = concat(
-					this.predicate,
+				criteria.allThoseThatMatch(
 					(context, member) -> {
 						Parameter[] memberParameter = member.getParameters();
 						if (memberParameter.length > 1 &&
@@ -131,15 +158,15 @@ public abstract class ExecutableMemberCriteria<
 					}
 				);
 				if (index < arguments.length - 1) {
-					and();
+					criteria.and();
 				}
 			}
 		} else {
-			parameterTypes(
+			criteria.parameterTypes(
 				parameters ->
 				parameters.length == 0
 			);
 		}
-		return (C)this;
+		return criteria;
 	}
 }
@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.burningwave.Executor;
 import org.burningwave.Strings;
@@ -53,7 +54,7 @@ import org.burningwave.ThrowingTriConsumer;
 import org.burningwave.ThrowingTriFunction;
 
 @SuppressWarnings("unchecked")
-public class Facade {
+public class Facade implements AutoCloseable {
 	public static final class Configuration {
 
 		public static final class Key {
@@ -125,9 +126,17 @@ public class Facade {
 		);
 		Facade.privateLookupIn = (clazz, cons) ->
 			(MethodHandles.Lookup)privateLookupIn.invokeWithArguments(cons, clazz);
-		INSTANCE = new Facade();
+		INSTANCE = new Facade(Cache.INSTANCE);
 	}
 
+	private final Cache cache;
+	private Members members;
+	private Fields fields;
+	private Methods methods;
+	private Constructors constructors;
+	private FieldAccessor fieldAccessor;
+	private volatile boolean failureStackTracesEnabled;
+
 	private Collection<ThrowingBiConsumer<AccessibleObject, Boolean, Throwable>> accessibleSetters;
 	private Collection<ThrowingBiFunction<Constructor<?>, Object[], Object, Throwable>> constructorInvokers;
 	private Collection<ThrowingFunction<Class<?>, Constructor<?>[], Throwable>> constructorRetrievers;
@@ -139,7 +148,9 @@ public class Facade {
 
 	private Collection<ThrowingFunction<Class<?>, Method[], Throwable>> methodRetrievers;
 
-	private Facade() {
+	private Facade(Cache cache) {
+		this.cache = cache;
+		cache.facade = this;
 		fieldRetrievers = new ArrayList<>();
 		methodRetrievers = new ArrayList<>();
 		constructorRetrievers = new ArrayList<>();
@@ -236,6 +247,51 @@ public class Facade {
 		);
 	}
 
+	//Creates an engine with its own cache and its own handlers: the configuration of its cache (bounds, front
+	//cache, snapshots), its statistics and the choice of whether using the driver do not affect the default
+	//engine, the one of the INSTANCE fields, nor the other ones
+	public static Facade create() {
+		Cache cache = new Cache();
+		Facade facade = new Facade(cache);
+		facade.members = new Members(cache);
+		facade.fields = new Fields(facade);
+		facade.methods = new Methods(facade);
+		facade.constructors = new Constructors(facade);
+		facade.fieldAccessor = FieldAccessor.create(facade);
+		return facade;
+	}
+
+	//Releases the cache of an engine made by create(), whose statistics are not registered as MBeans: only the
+	//ones of the default engine are. The default engine cannot be closed
+	@Override
+	public void close() {
+		cache.close();
+	}
+
+	public Cache getCache() {
+		return cache;
+	}
+
+	public Members getMembers() {
+		return members != null ? members : Members.INSTANCE;
+	}
+
+	public Fields getFields() {
+		return fields != null ? fields : Fields.INSTANCE;
+	}
+
+	public Methods getMethods() {
+		return methods != null ? methods : Methods.INSTANCE;
+	}
+
+	public Constructors getConstructors() {
+		return constructors != null ? constructors : Constructors.INSTANCE;
+	}
+
+	public FieldAccessor getFieldAccessor() {
+		return fieldAccessor != null ? fieldAccessor : FieldAccessor.INSTANCE;
+	}
+
 	public <D> D getDriver() {
 		return (D)driver;
 	}
@@ -253,11 +309,57 @@ public class Facade {
 		return this;
 	}
 
-	public Facade clearCache() {
-		Cache.INSTANCE.clear(true);
+	//Whether the exceptions thrown when a cached method handle could not be retrieved capture the stack trace
+	public Facade enableFailureStackTraces() {
+		failureStackTracesEnabled = true;
+		return this;
+	}
+
+	public Facade disableFailureStackTraces() {
+		failureStackTracesEnabled = false;
 		return this;
 	}
 
+	boolean isFailureStackTracesEnabled() {
+		return failureStackTracesEnabled;
+	}
+
+	public CompletableFuture<Void> clearCache() {
+		return clearCache(false);
+	}
+
+	public CompletableFuture<Void> clearCache(boolean synchronous) {
+		return cache.clear(true, synchronous);
+	}
+
+	public Facade clearCache(Class<?> cls) {
+		cache.invalidate(cls);
+		return this;
+	}
+
+	public Facade clearCache(ClassLoader classLoader) {
+		cache.invalidate(classLoader);
+		return this;
+	}
+
+	public Facade clearCacheOfPackage(String packageNamePrefix) {
+		cache.invalidate(packageNamePrefix);
+		return this;
+	}
+
+	public CompletableFuture<Void> warmUpCache(Collection<Class<?>> classes, boolean retrieveMethodHandles) {
+		return cache.warmUp(classes, retrieveMethodHandles);
+	}
+
+	public CompletableFuture<Void> warmUpCache(String packageNamePrefix, boolean retrieveMethodHandles) {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return cache.warmUp(
+			packageNamePrefix,
+			classLoader != null ? classLoader : Facade.class.getClassLoader(),
+			retrieveMethodHandles
+		);
+	}
+
 	public <R> Map.Entry<MethodHandles.Lookup, R> executeWithConsulter(Class<?> cls, ThrowingFunction<MethodHandles.Lookup, R, ? extends Throwable> executor) {
 		Throwable exception = null;
 		MethodHandles.Lookup consulter = null;
@@ -54,15 +54,17 @@ public abstract class FieldAccessor {
 	private final static String REG_EXP_FOR_SIMPLE_FIELDS = "([a-zA-Z\\$\\_\\-0-9]*)(\\[*.*)";
 
 	static {
-		INSTANCE = new ByFieldOrByMethod();
+		INSTANCE = new ByFieldOrByMethod(Facade.INSTANCE);
 	}
+	final Facade facade;
 	private List<ThrowingBiFunction<Object, String, Object, Throwable>> fieldRetrievers;
 	private List<ThrowingFunction<Object[], Boolean, Throwable>> fieldSetters;
 	private Pattern indexesSearcherForIndexedField;
 
 	private Pattern simpleFieldSearcher;
 
-	FieldAccessor() {
+	FieldAccessor(Facade facade) {
+		this.facade = facade;
 		this.fieldRetrievers = getFieldRetrievers();
 		this.fieldSetters= getFieldSetters();
 		this.simpleFieldSearcher = Pattern.compile(REG_EXP_FOR_SIMPLE_FIELDS);
@@ -99,6 +101,10 @@ public abstract class FieldAccessor {
 		setField(target, targetPathSegment, value);
 	}
 
+	static FieldAccessor create(Facade facade) {
+		return new ByFieldOrByMethod(facade);
+	}
+
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getFieldRetrievers();
 
 	abstract List<ThrowingFunction<Object[], Boolean, Throwable>> getFieldSetters();
@@ -107,20 +113,20 @@ public abstract class FieldAccessor {
 		if (pathSegment.trim().isEmpty()) {
 			return target;
 		}
-		return Fields.INSTANCE.get(target, pathSegment);
+		return facade.getFields().get(target, pathSegment);
 	}
 
 	Boolean setFieldByDirectAccess(Object target, String pathSegment, Object value) throws IllegalAccessException {
 		Matcher matcher = simpleFieldSearcher.matcher(pathSegment);
 		matcher.find();
 		if (matcher.group(2).isEmpty()) {
-			Field field = Fields.INSTANCE.findOneAndMakeItAccessible(target.getClass(), matcher.group(1));
-			Fields.INSTANCE.set(target, field, value);
+			Field field = facade.getFields().findOneAndMakeItAccessible(target.getClass(), matcher.group(1));
+			facade.getFields().set(target, field, value);
 		} else {
 			if (target.getClass().isArray() || target instanceof Map || target instanceof Collection) {
 				setInIndexedField(target, matcher.group(2), value);
 			} else {
-				Field field = Fields.INSTANCE.findOneAndMakeItAccessible(target.getClass(), matcher.group(1));
+				Field field = facade.getFields().findOneAndMakeItAccessible(target.getClass(), matcher.group(1));
 				setInIndexedField(field.get(target), matcher.group(2), value);
 			}
 		}
@@ -260,8 +266,8 @@ public abstract class FieldAccessor {
 
 	private static class ByFieldOrByMethod extends FieldAccessor {
 
-		private ByFieldOrByMethod() {
-			super();
+		private ByFieldOrByMethod(Facade facade) {
+			super(facade);
 		}
 
 		@Override
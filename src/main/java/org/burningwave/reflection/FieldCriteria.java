@@ -29,6 +29,7 @@
 package org.burningwave.reflection;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -41,6 +42,15 @@ public class FieldCriteria extends MemberCriteria<
 		super();
 	}
 
+	private FieldCriteria(boolean immutable) {
+		super(immutable);
+	}
+
+	@Override
+	FieldCriteria newInstance(boolean immutable) {
+		return new FieldCriteria(immutable);
+	}
+
 	public static FieldCriteria byScanUpTo(BiPredicate<Class<?>, Class<?>> predicate) {
 		return new FieldCriteria().scanUpTo(predicate);
 	}
@@ -56,23 +66,32 @@ public class FieldCriteria extends MemberCriteria<
 	}
 
 	public FieldCriteria type(final Predicate<Class<?>> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			(context, member) -> predicate.test(member.getType())
 		);
-		return this;
 	}
 
 
+	public FieldCriteria type(final Class<?> type) {
+		return addDeclarativeCondition(
+			"type=#", new Class<?>[] {type},
+			criteria -> criteria.type(fieldType -> fieldType == type)
+		);
+	}
+
+	@Override
+	Function<Class<?>, Field[]> getMembersSupplierFunction(Cache cache) {
+		String exactName = this.exactName;
+		if (exactName != null) {
+			return clazz ->
+				cache.getMetadata(clazz).getDeclaredFields(exactName);
+		}
+		return clazz ->
+			cache.getMetadata(clazz).getDeclaredFields();
+	}
+
 	@Override
-	Function<Class<?>, Field[]> getMembersSupplierFunction() {
-		return clazz -> {
-			final String cacheKey = Constructors.INSTANCE.getCacheKey(clazz, Members.ALL_FOR_CLASS);
-			return Cache.INSTANCE.uniqueKeyForFieldsArray.getOrUploadIfAbsent(
-				cacheKey, () -> {
-					return Facade.INSTANCE.getDeclaredFields(clazz);
-				}
-			);
-		};
+	Cache.PathForResources<Collection<Field>> getPathForResults(Cache cache) {
+		return cache.uniqueKeyForAllFields;
 	}
-}
\ No newline at end of file
+}
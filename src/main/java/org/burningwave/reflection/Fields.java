@@ -48,20 +48,23 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 	public static final Fields INSTANCE;
 
 	static {
-		INSTANCE = new Fields();
+		INSTANCE = new Fields(Facade.INSTANCE);
 	}
 
-	private Fields() {}
+	Fields(Facade facade) {
+		super(facade);
+	}
 
 	public Collection<Field> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS, (Class<?>[])null);
-		return Cache.INSTANCE.uniqueKeyForAllFields.getOrUploadIfAbsent(
+		Cache.Key cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS, null, (Class<?>[])null);
+		return cache.uniqueKeyForAllFields.getOrUploadIfAbsent(
 			cacheKey,
 			() ->
-				findAllAndMakeThemAccessible(
-					FieldCriteria.forEntireClassHierarchy(), targetClass
+				findAllWithoutCacheAndApply(
+					FieldCriteria.forEntireClassHierarchy(), targetClass, (member) ->
+						setAccessible(member, true)
 				)
 		);
 	}
@@ -78,18 +81,14 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		String fieldName,
 		Class<?> valueType
 	) {
-		String cacheKey = getCacheKey(targetClass, "equals " + fieldName, valueType);
-		return Cache.INSTANCE.uniqueKeyForAllFields.getOrUploadIfAbsent(
+		Cache.Key cacheKey = getCacheKey(targetClass, "equals", fieldName, valueType);
+		return cache.uniqueKeyForAllFields.getOrUploadIfAbsent(
 			cacheKey,
 			() ->
 				findAllAndMakeThemAccessible(
-					FieldCriteria.forEntireClassHierarchy().allThoseThatMatch(field -> {
-						if (valueType == null) {
-							return field.getName().equals(fieldName);
-						} else {
-							return field.getName().equals(fieldName) && Classes.INSTANCE.isAssignableFrom(field.getType(), valueType);
-						}
-					}), targetClass
+					FieldCriteria.forEntireClassHierarchy().name(fieldName).and().allThoseThatMatch(field ->
+						valueType == null || Classes.INSTANCE.isAssignableFrom(field.getType(), valueType)
+					), targetClass
 				)
 		);
 	}
@@ -123,7 +122,7 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 	}
 
 	public <T> T get(Object target, Field field) {
-		return Facade.INSTANCE.getFieldValue(target, field);
+		return facade.getFieldValue(target, field);
 	}
 
 	public <T> T get(Object target, String fieldName) {
@@ -164,7 +163,7 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 	}
 
 	public void set(Object target, Field field, Object value) {
-		Facade.INSTANCE.setFieldValue(target, field, value);
+		facade.setFieldValue(target, field, value);
 	}
 
 	public void set(Object target, String fieldName, Object value) {
@@ -204,7 +203,7 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		for (Field field : fieldsSupplier.get()) {
 			fieldValues.put(
 				field,
-				Facade.INSTANCE.getFieldValue(target, field)
+				facade.getFieldValue(target, field)
 			);
 		}
 		return fieldValues;
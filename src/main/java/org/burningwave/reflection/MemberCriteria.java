@@ -29,12 +29,16 @@
 package org.burningwave.reflection;
 
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.burningwave.TriPredicate;
 
@@ -42,45 +46,230 @@ import org.burningwave.TriPredicate;
 @SuppressWarnings("unchecked")
 public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<M, C, T>, T extends Criteria.TestContext<M, C>> extends Criteria<M, C, T> {
 	private static Member[] EMPTY_MEMBERS_ARRAY = {};
+	private static Class<?>[] EMPTY_CLASSES_ARRAY = {};
 	Predicate<Collection<M>> resultPredicate;
 	TriPredicate<C, Class<?>, Class<?>> scanUpToPredicate;
 	TriPredicate<C, Class<?>, Class<?>> skipClassPredicate;
+	//Set only while every member that matches must have this name: it allows the name index of each class to be used
+	String exactName;
+	//The sequence of the declarative conditions, each one preceded by its logical operator, from which the criteria was
+	//built: the classes they refer to are kept, by identity, in fingerprintClasses. It is null as soon as a condition
+	//that cannot be compared, like a lambda, is added
+	String fingerprint = "";
+	Class<?>[] fingerprintClasses = EMPTY_CLASSES_ARRAY;
+	char pendingOperator = '.';
+	boolean addingDeclarativeCondition;
+	final boolean immutable;
 
+	MemberCriteria() {
+		this(false);
+	}
+
+	MemberCriteria(boolean immutable) {
+		this.immutable = immutable;
+	}
+
+	@Override
+	protected C newInstance() {
+		return newInstance(false);
+	}
+
+	abstract C newInstance(boolean immutable);
 
 	@Override
 	public C createCopy() {
-		C copy = super.createCopy();
+		return copyTo(newInstance());
+	}
+
+	private C copyTo(C copy) {
+		copy.predicate = this.predicate;
+		copy.logicalOperator = this.logicalOperator;
 		copy.scanUpToPredicate = this.scanUpToPredicate;
 		copy.skipClassPredicate = this.skipClassPredicate;
 		copy.resultPredicate = this.resultPredicate;
+		copy.exactName = this.exactName;
+		copy.fingerprint = this.fingerprint;
+		copy.fingerprintClasses = this.fingerprintClasses;
+		copy.pendingOperator = this.pendingOperator;
 		return copy;
 	}
 
+	//Returns a copy that is never modified: each method that would modify it returns a modified mutable copy instead,
+	//so that it can be stored in a constant and shared among threads
+	public C toImmutable() {
+		return immutable ? (C)this : copyTo(newInstance(true));
+	}
+
+	public boolean isImmutable() {
+		return immutable;
+	}
+
+	//The only point where an immutable criteria is copied: each method that modifies the criteria works on what it returns
+	C modifiable() {
+		return immutable ? createCopy() : (C)this;
+	}
+
+	@Override
+	public C allThoseThatMatch(final BiPredicate<T, M> predicate) {
+		C criteria = modifiable();
+		return criteria != this ? criteria.allThoseThatMatch(predicate) : super.allThoseThatMatch(predicate);
+	}
+
+	public C name(final String exactName) {
+		return addDeclarativeCondition(
+			"name=" + encode(exactName), EMPTY_CLASSES_ARRAY,
+			criteria -> {
+				if (criteria.predicate == null) {
+					criteria.exactName = exactName;
+				}
+				return criteria.name(exactName::equals);
+			}
+		);
+	}
+
+	public C nameMatches(final String regEx) {
+		return addDeclarativeCondition(
+			"nameMatches=" + encode(regEx), EMPTY_CLASSES_ARRAY,
+			criteria -> criteria.name(name -> name.matches(regEx))
+		);
+	}
+
+	//All the passed modifiers must be present
+	public C modifiers(final int modifiers) {
+		return addDeclarativeCondition(
+			"modifiers=" + modifiers, EMPTY_CLASSES_ARRAY,
+			criteria -> criteria.allThoseThatMatch(member -> (member.getModifiers() & modifiers) == modifiers)
+		);
+	}
+
+	public C annotatedWith(final Class<? extends Annotation> annotationType) {
+		return addDeclarativeCondition(
+			"annotatedWith=#", new Class<?>[] {annotationType},
+			criteria -> criteria.allThoseThatMatch(member -> ((AnnotatedElement)member).isAnnotationPresent(annotationType))
+		);
+	}
+
+	@Override
+	public C and() {
+		C criteria = modifiable();
+		if (criteria != this) {
+			return criteria.and();
+		}
+		this.pendingOperator = '&';
+		return super.and();
+	}
+
+	@Override
+	public C or() {
+		C criteria = modifiable();
+		if (criteria != this) {
+			return criteria.or();
+		}
+		this.exactName = null;
+		this.pendingOperator = '|';
+		return super.or();
+	}
+
+	@Override
+	public C negate() {
+		C criteria = modifiable();
+		if (criteria != this) {
+			return criteria.negate();
+		}
+		this.exactName = null;
+		this.fingerprint = null;
+		return super.negate();
+	}
+
+	@Override
+	public C and(C criteria) {
+		return combineFingerprints(super.and(criteria), '&', criteria);
+	}
+
+	@Override
+	public C or(C criteria) {
+		return combineFingerprints(super.or(criteria), '|', criteria);
+	}
+
+	@Override
+	protected BiPredicate<T, M> concat(BiPredicate<T, M> predicate, BiPredicate<T, M> otherPredicate) {
+		if (!addingDeclarativeCondition) {
+			this.fingerprint = null;
+		}
+		//A condition or-ed with the name one lets members with other names match
+		if (this.pendingOperator == '|') {
+			this.exactName = null;
+		}
+		this.pendingOperator = '.';
+		return super.concat(predicate, otherPredicate);
+	}
+
+	C addDeclarativeCondition(String condition, Class<?>[] classes, UnaryOperator<C> conditionAdder) {
+		C criteria = modifiable();
+		String fingerprint = criteria.fingerprint;
+		char operator = criteria.pendingOperator;
+		boolean nested = criteria.addingDeclarativeCondition;
+		criteria.addingDeclarativeCondition = true;
+		try {
+			conditionAdder.apply(criteria);
+		} finally {
+			criteria.addingDeclarativeCondition = nested;
+		}
+		if (!nested && fingerprint != null) {
+			criteria.fingerprint = fingerprint + operator + condition;
+			criteria.fingerprintClasses = concat(criteria.fingerprintClasses, classes);
+		}
+		return criteria;
+	}
+
+	private C combineFingerprints(C newCriteria, char operator, C rightCriteria) {
+		if (this.fingerprint != null && rightCriteria.fingerprint != null) {
+			newCriteria.fingerprint = "(" + this.fingerprint + ")" + operator + "(" + rightCriteria.fingerprint + ")";
+			newCriteria.fingerprintClasses = concat(this.fingerprintClasses, rightCriteria.fingerprintClasses);
+		}
+		return newCriteria;
+	}
+
+	static String encode(String value) {
+		return value != null ? value.length() + ":" + value : "null";
+	}
+
+	static Class<?>[] concat(Class<?>[] classes, Class<?>[] otherClasses) {
+		if (otherClasses.length == 0) {
+			return classes;
+		}
+		Class<?>[] allClasses = Arrays.copyOf(classes, classes.length + otherClasses.length);
+		System.arraycopy(otherClasses, 0, allClasses, classes.length, otherClasses.length);
+		return allClasses;
+	}
+
 	public C name(final Predicate<String> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			(context, member) ->
 				predicate.test(member.getName())
 		);
-		return (C)this;
 	}
 
 	public C result(Predicate<Collection<M>> resultPredicate) {
-		this.resultPredicate = resultPredicate;
-		return (C)this;
+		C criteria = modifiable();
+		criteria.fingerprint = null;
+		criteria.resultPredicate = resultPredicate;
+		return criteria;
 	}
 
 
 	public C skip(BiPredicate<Class<?>, Class<?>> predicate) {
-		if (skipClassPredicate != null) {
-			skipClassPredicate = skipClassPredicate.or((criteria, initialClassFrom, currentClass) ->
+		C criteria = modifiable();
+		criteria.fingerprint = null;
+		if (criteria.skipClassPredicate != null) {
+			criteria.skipClassPredicate = criteria.skipClassPredicate.or((crt, initialClassFrom, currentClass) ->
 				predicate.test(initialClassFrom, currentClass)
 			);
 		} else {
-			skipClassPredicate = (criteria, initialClassFrom, currentClass) ->
+			criteria.skipClassPredicate = (crt, initialClassFrom, currentClass) ->
 				predicate.test(initialClassFrom, currentClass);
 		}
-		return (C)this;
+		return criteria;
 	}
 
 	@Override
@@ -100,6 +289,11 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 					leftCriteria.skipClassPredicate.or(rightCriteria.skipClassPredicate) :
 					leftCriteria.skipClassPredicate :
 				rightCriteria.skipClassPredicate;
+		newCriteria.fingerprint = null;
+		newCriteria.exactName =
+			leftCriteria.exactName != null && leftCriteria.exactName.equals(rightCriteria.exactName) ?
+				leftCriteria.exactName :
+				null;
 //		newCriteria.resultPredicate =
 //			leftCriteria.resultPredicate != null?
 //				rightCriteria.resultPredicate != null?
@@ -109,14 +303,20 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		return newCriteria;
 	}
 
-	BiFunction<Class<?>, Class<?>, M[]> getMembersSupplier() {
+	BiFunction<Class<?>, Class<?>, M[]> getMembersSupplier(Cache cache) {
+		return getMembersSupplier(getMembersSupplierFunction(cache));
+	}
+
+	BiFunction<Class<?>, Class<?>, M[]> getMembersSupplier(Function<Class<?>, M[]> membersSupplierFunction) {
 		return (initialClassFrom, currentClass) ->
 			!(skipClassPredicate != null && skipClassPredicate.test((C)this, initialClassFrom, currentClass)) ?
-				getMembersSupplierFunction().apply(currentClass) :
+				membersSupplierFunction.apply(currentClass) :
 				(M[]) EMPTY_MEMBERS_ARRAY;
 	}
 
-	abstract Function<Class<?>, M[]> getMembersSupplierFunction();
+	abstract Function<Class<?>, M[]> getMembersSupplierFunction(Cache cache);
+
+	abstract Cache.PathForResources<Collection<M>> getPathForResults(Cache cache);
 
 	Predicate<Collection<M>> getResultPredicate() {
 		return this.resultPredicate;
@@ -130,11 +330,13 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 	}
 
 	C scanUpTo(BiPredicate<Class<?>, Class<?>> predicate) {
+		this.fingerprint = null;
 		this.scanUpToPredicate = (criteria, initialClassFrom, currentClass) -> predicate.test(initialClassFrom, currentClass);
 		return (C)this;
 	}
 
 	C scanUpTo(Predicate<Class<?>> predicate) {
+		this.fingerprint = null;
 		this.scanUpToPredicate = (criteria, initialClassFrom, currentClass) -> predicate.test(currentClass);
 		return (C)this;
 	}
@@ -31,8 +31,10 @@ package org.burningwave.reflection;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Member;
 import java.lang.reflect.Parameter;
@@ -42,18 +44,27 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.burningwave.Classes;
 import org.burningwave.Throwables;
@@ -63,22 +74,46 @@ import org.burningwave.TriFunction;
 public class Members {
 	public static final Members INSTANCE;
 	static final String ALL_FOR_CLASS = "all for class";
+	static final String FIND_ALL_BY_CRITERIA = "find all by criteria";
+	static final String FIND_FIRST_BY_CRITERIA = "find first by criteria";
 
 	static {
-		INSTANCE = new Members();
+		INSTANCE = new Members(Cache.INSTANCE);
 	}
 
-	private Members() {}
+	final Cache cache;
+
+	Members(Cache cache) {
+		this.cache = cache;
+	}
 
 	public <M extends Member> Collection<M> findAll(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
+		//Criteria made only of declarative conditions share their results through the cache
+		String fingerprint = criteria.fingerprint;
+		if (fingerprint != null) {
+			Collection<M> result = criteria.getPathForResults(cache).getOrUploadIfAbsent(
+				new Cache.Key(classFrom, FIND_ALL_BY_CRITERIA, fingerprint, criteria.fingerprintClasses),
+				() -> {
+					Collection<M> members = findAllWithoutCache(criteria, classFrom);
+					return members instanceof Set ?
+						Collections.unmodifiableCollection(members) :
+						members;
+				}
+			);
+			//The members of an interface are returned in a modifiable collection, like when they are not cached
+			return classFrom.isInterface() ?
+				new LinkedHashSet<>(result) :
+				result;
+		}
+		return findAllWithoutCache(criteria, classFrom);
+	}
+
+	<M extends Member> Collection<M> findAllWithoutCache(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
 		Collection<M> result = findAll(
-			classFrom,
 			classFrom,
 			criteria.getScanUpToPredicate(),
-			criteria.getMembersSupplier(),
-			criteria.getPredicateOrTruePredicateIfPredicateIsNull(),
-			new HashSet<>(),
-			new LinkedHashSet<>()
+			criteria.getMembersSupplier(cache),
+			criteria.getPredicateOrTruePredicateIfPredicateIsNull()
 		);
 		Predicate<Collection<M>> resultPredicate = criteria.getResultPredicate();
 		return resultPredicate == null?
@@ -88,26 +123,96 @@ public class Members {
 					new LinkedHashSet<>();
 	}
 
+	public <M extends Member> Map<Class<?>, Collection<M>> findAll(
+		MemberCriteria<M, ?, ?> criteria,
+		Collection<Class<?>> classesFrom
+	) {
+		return findAll(criteria, classesFrom, null);
+	}
+
+	//The members of each class of the hierarchies that match the predicate are computed once and shared by all the
+	//classes from which the scan starts: only the scan up to and the skip predicates are evaluated for each of them.
+	//When a pool is passed each class is scanned in a separate task
+	public <M extends Member> Map<Class<?>, Collection<M>> findAll(
+		MemberCriteria<M, ?, ?> criteria,
+		Collection<Class<?>> classesFrom,
+		ForkJoinPool pool
+	) {
+		Predicate<M> predicate = criteria.getPredicateOrTruePredicateIfPredicateIsNull();
+		Function<Class<?>, M[]> membersSupplierFunction = criteria.getMembersSupplierFunction(cache);
+		Map<Class<?>, M[]> matchingMembersForClass = new ConcurrentHashMap<>();
+		BiFunction<Class<?>, Class<?>, M[]> memberSupplier = criteria.getMembersSupplier(cls ->
+			matchingMembersForClass.computeIfAbsent(cls, clazz -> {
+				M[] members = membersSupplierFunction.apply(clazz);
+				return Arrays.stream(members).filter(predicate).toArray(
+					size -> (M[])Array.newInstance(members.getClass().getComponentType(), size)
+				);
+			})
+		);
+		BiPredicate<Class<?>, Class<?>> clsPredicate = criteria.getScanUpToPredicate();
+		Predicate<Collection<M>> resultPredicate = criteria.getResultPredicate();
+		Function<Class<?>, Collection<M>> scanner = classFrom -> {
+			Collection<M> result = findAll(classFrom, clsPredicate, memberSupplier, member -> true);
+			return resultPredicate == null || resultPredicate.test(result) ?
+				result :
+				new LinkedHashSet<>();
+		};
+		Map<Class<?>, Collection<M>> results = new LinkedHashMap<>();
+		if (pool == null) {
+			for (Class<?> classFrom : classesFrom) {
+				results.computeIfAbsent(classFrom, scanner);
+			}
+			return results;
+		}
+		Map<Class<?>, CompletableFuture<Collection<M>>> scans = new LinkedHashMap<>();
+		for (Class<?> classFrom : classesFrom) {
+			scans.computeIfAbsent(classFrom, cls -> CompletableFuture.supplyAsync(() -> scanner.apply(cls), pool));
+		}
+		for (Map.Entry<Class<?>, CompletableFuture<Collection<M>>> scan : scans.entrySet()) {
+			results.put(scan.getKey(), scan.getValue().join());
+		}
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
 	public <M extends Member> M findFirst(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
+		String fingerprint = criteria.fingerprint;
+		if (fingerprint != null) {
+			//A list of zero or one member is cached, since null results cannot be: it is read without
+			//allocating. The entries rehydrated from a snapshot are not lists
+			Collection<M> result = criteria.getPathForResults(cache).getOrUploadIfAbsent(
+				new Cache.Key(classFrom, FIND_FIRST_BY_CRITERIA, fingerprint, criteria.fingerprintClasses),
+				() -> {
+					M member = findFirstWithoutCache(criteria, classFrom);
+					return member != null ?
+						Collections.singletonList(member) :
+						Collections.emptyList();
+				}
+			);
+			return result.isEmpty() ?
+				null :
+				result instanceof List ?
+					((List<M>)result).get(0) :
+					result.iterator().next();
+		}
+		return findFirstWithoutCache(criteria, classFrom);
+	}
+
+	private <M extends Member> M findFirstWithoutCache(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
 		Predicate<Collection<M>> resultPredicate = criteria.getResultPredicate();
 		if (resultPredicate == null) {
 			return findFirst(
-				classFrom,
 				classFrom,
 				criteria.getScanUpToPredicate(),
-				criteria.getMembersSupplier(),
-				criteria.getPredicateOrTruePredicateIfPredicateIsNull(),
-				new HashSet<>()
+				criteria.getMembersSupplier(cache),
+				criteria.getPredicateOrTruePredicateIfPredicateIsNull()
 			);
 		} else {
 			Collection<M> result = findAll(
-				classFrom,
 				classFrom,
 				criteria.getScanUpToPredicate(),
-				criteria.getMembersSupplier(),
-				criteria.getPredicateOrTruePredicateIfPredicateIsNull(),
-				new HashSet<>(),
-				new LinkedHashSet<>()
+				criteria.getMembersSupplier(cache),
+				criteria.getPredicateOrTruePredicateIfPredicateIsNull()
 			);
 			return resultPredicate.test(result) ?
 				result.stream().findFirst().orElseGet(() -> null) :
@@ -115,6 +220,80 @@ public class Members {
 		}
 	}
 
+	//Evaluates all the criteria in a single walk of the hierarchy: the collection returned by the results for each
+	//criteria is the one that findAll would return for it
+	public Results findAll(Class<?> classFrom, MemberCriteria<?, ?, ?>... criteria) {
+		int criteriaCount = criteria.length;
+		List<BiPredicate<Class<?>, Class<?>>> clsPredicates = new ArrayList<>(criteriaCount);
+		List<BiFunction<Class<?>, Class<?>, Member[]>> memberSuppliers = new ArrayList<>(criteriaCount);
+		List<Predicate<Member>> predicates = new ArrayList<>(criteriaCount);
+		List<Collection<Member>> collections = new ArrayList<>(criteriaCount);
+		for (MemberCriteria<?, ?, ?> memberCriteria : criteria) {
+			MemberCriteria<Member, ?, ?> criterion = (MemberCriteria<Member, ?, ?>)memberCriteria;
+			clsPredicates.add(criterion.getScanUpToPredicate());
+			memberSuppliers.add(criterion.getMembersSupplier(cache));
+			predicates.add(criterion.getPredicateOrTruePredicateIfPredicateIsNull());
+			collections.add(new LinkedHashSet<>());
+		}
+		Hierarchy hierarchy = cache.getMetadata(classFrom).getHierarchy();
+		Class<?>[] classes = hierarchy.classes;
+		boolean[] stopped = new boolean[criteriaCount];
+		int runningCount = criteriaCount;
+		for (int index = 0; index < classes.length && runningCount > 0; index++) {
+			int[] checks = hierarchy.checksAfter[index];
+			for (int criteriaIndex = 0; criteriaIndex < criteriaCount; criteriaIndex++) {
+				if (stopped[criteriaIndex]) {
+					continue;
+				}
+				Predicate<Member> predicate = predicates.get(criteriaIndex);
+				Collection<Member> collection = collections.get(criteriaIndex);
+				for (Member member : memberSuppliers.get(criteriaIndex).apply(classFrom, classes[index])) {
+					if (predicate.test(member)) {
+						collection.add(member);
+					}
+				}
+				if (checks != null) {
+					for (int check : checks) {
+						if (clsPredicates.get(criteriaIndex).test(classFrom, classes[check])) {
+							stopped[criteriaIndex] = true;
+							--runningCount;
+							break;
+						}
+					}
+				}
+			}
+		}
+		Collection<?>[] results = new Collection<?>[criteriaCount];
+		for (int criteriaIndex = 0; criteriaIndex < criteriaCount; criteriaIndex++) {
+			Collection<Member> result = stopped[criteriaIndex] || !classFrom.isInterface() ?
+				Collections.unmodifiableCollection(collections.get(criteriaIndex)) :
+				collections.get(criteriaIndex);
+			Predicate<Collection<Member>> resultPredicate =
+				((MemberCriteria<Member, ?, ?>)criteria[criteriaIndex]).getResultPredicate();
+			results[criteriaIndex] = resultPredicate == null || resultPredicate.test(result) ?
+				result :
+				new LinkedHashSet<>();
+		}
+		return new Results(criteria.clone(), results);
+	}
+
+	//The hierarchy is scanned lazily, only as far as the terminal operation requires it
+	public <M extends Member> Stream<M> stream(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
+		if (criteria.getResultPredicate() != null) {
+			return findAll(criteria, classFrom).stream();
+		}
+		return StreamSupport.stream(
+			new MemberSpliterator<>(
+				classFrom,
+				cache.getMetadata(classFrom).getHierarchy(),
+				criteria.getScanUpToPredicate(),
+				criteria.getMembersSupplier(cache),
+				criteria.getPredicateOrTruePredicateIfPredicateIsNull()
+			),
+			false
+		);
+	}
+
 	public <M extends Member> M findOne(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
 		Collection<M> members = findAll(criteria, classFrom);
 		if (members.size() > 1) {
@@ -129,81 +308,236 @@ public class Members {
 
 	private <M extends Member> Collection<M> findAll(
 		Class<?> initialClsFrom,
-		Class<?> currentScannedClass,
 		BiPredicate<Class<?>, Class<?>> clsPredicate,
 		BiFunction<Class<?>, Class<?>, M[]> memberSupplier,
-		Predicate<M> predicate,
-		Set<Class<?>> visitedInterfaces,
-		Collection<M> collection
+		Predicate<M> predicate
 	) {
-		for (M member : memberSupplier.apply(initialClsFrom, currentScannedClass)) {
-			if (predicate.test(member)) {
-				collection.add(member);
-			}
-		}
-		for (Class<?> interf : currentScannedClass.getInterfaces()) {
-			if (!visitedInterfaces.add(interf)) {
-				continue;
-			}
-			collection = findAll((Class<?>) initialClsFrom, interf, clsPredicate, memberSupplier, predicate, visitedInterfaces, collection);
-			if (!(collection instanceof Set)) {
-				return collection;
+		Hierarchy hierarchy = cache.getMetadata(initialClsFrom).getHierarchy();
+		Class<?>[] classes = hierarchy.classes;
+		Collection<M> collection = new LinkedHashSet<>();
+		for (int index = 0; index < classes.length; index++) {
+			for (M member : memberSupplier.apply(initialClsFrom, classes[index])) {
+				if (predicate.test(member)) {
+					collection.add(member);
+				}
 			}
-			if (clsPredicate.test(initialClsFrom, currentScannedClass)) {
-				return Collections.unmodifiableCollection(collection);
+			int[] checks = hierarchy.checksAfter[index];
+			if (checks != null) {
+				for (int check : checks) {
+					if (clsPredicate.test(initialClsFrom, classes[check])) {
+						return Collections.unmodifiableCollection(collection);
+					}
+				}
 			}
 		}
-		Class<?> superClass = currentScannedClass.getSuperclass();
-		if (!(collection instanceof Set) || ((superClass = currentScannedClass.getSuperclass()) == null && currentScannedClass.isInterface())) {
-			return collection;
-		}
-		if (superClass == null || clsPredicate.test(initialClsFrom, currentScannedClass)) {
-			return Collections.unmodifiableCollection(collection);
-		}
-		return findAll(
-			initialClsFrom,
-			superClass,
-			clsPredicate,
-			memberSupplier,
-			predicate,
-			visitedInterfaces,
-			collection
-		);
+		return initialClsFrom.isInterface() ?
+			collection :
+			Collections.unmodifiableCollection(collection);
 	}
 
 	private <M extends Member> M findFirst(
 		Class<?> initialClsFrom,
-		Class<?> currentScannedClass,
 		BiPredicate<Class<?>, Class<?>> clsPredicate,
-		BiFunction<Class<?>, Class<?>, M[]>
-		memberSupplier, Predicate<M> predicate,
-		Set<Class<?>> visitedInterfaces
+		BiFunction<Class<?>, Class<?>, M[]> memberSupplier,
+		Predicate<M> predicate
 	) {
-		for (M member : memberSupplier.apply(initialClsFrom, currentScannedClass)) {
-			if (predicate.test(member)) {
-				return member;
+		Hierarchy hierarchy = cache.getMetadata(initialClsFrom).getHierarchy();
+		Class<?>[] classes = hierarchy.classes;
+		int index = 0;
+		while (index < classes.length) {
+			for (M member : memberSupplier.apply(initialClsFrom, classes[index])) {
+				if (predicate.test(member)) {
+					return member;
+				}
+			}
+			int next = index + 1;
+			int[] checks = hierarchy.checksAfter[index];
+			if (checks != null) {
+				//Unlike findAll, a class that matches the scan up to predicate ends only the scan of its own subtree
+				for (int check : checks) {
+					if (clsPredicate.test(initialClsFrom, classes[check])) {
+						next = Math.max(next, hierarchy.subtreeEnds[check]);
+					}
+				}
 			}
+			index = next;
 		}
-		for (Class<?> interf : currentScannedClass.getInterfaces()) {
-			if (!visitedInterfaces.add(interf)) {
-				continue;
+		return null;
+	}
+
+	//The results of the multi criteria findAll: each collection is typed by the criteria that produced it
+	public static class Results {
+		private final MemberCriteria<?, ?, ?>[] criteria;
+		private final Collection<?>[] results;
+
+		Results(MemberCriteria<?, ?, ?>[] criteria, Collection<?>[] results) {
+			this.criteria = criteria;
+			this.results = results;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <M extends Member> Collection<M> get(MemberCriteria<M, ?, ?> criteria) {
+			for (int index = 0; index < this.criteria.length; index++) {
+				if (this.criteria[index] == criteria) {
+					return (Collection<M>)results[index];
+				}
 			}
-			M member = findFirst(initialClsFrom, interf, clsPredicate, memberSupplier, predicate, visitedInterfaces);
-			if (member != null || clsPredicate.test(initialClsFrom, currentScannedClass)) {
-				return member;
+			return Throwables.INSTANCE.throwException("The criteria has not been evaluated");
+		}
+
+		public int size() {
+			return results.length;
+		}
+
+	}
+
+	//Follows the same order and the same scan up to logic of findAll
+	private static class MemberSpliterator<M extends Member> extends Spliterators.AbstractSpliterator<M> {
+		private final Class<?> initialClsFrom;
+		private final Hierarchy hierarchy;
+		private final BiPredicate<Class<?>, Class<?>> clsPredicate;
+		private final BiFunction<Class<?>, Class<?>, M[]> memberSupplier;
+		private final Predicate<M> predicate;
+		private int classIndex;
+		private M[] members;
+		private int memberIndex;
+
+		MemberSpliterator(
+			Class<?> initialClsFrom,
+			Hierarchy hierarchy,
+			BiPredicate<Class<?>, Class<?>> clsPredicate,
+			BiFunction<Class<?>, Class<?>, M[]> memberSupplier,
+			Predicate<M> predicate
+		) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+			this.initialClsFrom = initialClsFrom;
+			this.hierarchy = hierarchy;
+			this.clsPredicate = clsPredicate;
+			this.memberSupplier = memberSupplier;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super M> action) {
+			Class<?>[] classes = hierarchy.classes;
+			while (classIndex < classes.length) {
+				if (members == null) {
+					members = memberSupplier.apply(initialClsFrom, classes[classIndex]);
+					memberIndex = 0;
+				}
+				while (memberIndex < members.length) {
+					M member = members[memberIndex++];
+					if (predicate.test(member)) {
+						action.accept(member);
+						return true;
+					}
+				}
+				members = null;
+				int[] checks = hierarchy.checksAfter[classIndex++];
+				if (checks != null) {
+					for (int check : checks) {
+						if (clsPredicate.test(initialClsFrom, classes[check])) {
+							classIndex = classes.length;
+							return false;
+						}
+					}
+				}
 			}
+			return false;
 		}
-		return
-			(clsPredicate.test(initialClsFrom, currentScannedClass) || currentScannedClass.getSuperclass() == null) ?
-				null :
-				findFirst(initialClsFrom, currentScannedClass.getSuperclass(), clsPredicate, memberSupplier, predicate, visitedInterfaces);
+
+	}
+
+	//The class, its superclasses and its interfaces in the order in which they are scanned: each class is followed by
+	//its not yet visited interfaces (each one with its own subtree) and then by its superclass
+	static class Hierarchy {
+		final Class<?>[] classes;
+		//The index past the last element of the subtree of each class
+		final int[] subtreeEnds;
+		//The indexes of the classes whose scan up to predicate is tested once the class at the same index has been scanned
+		final int[][] checksAfter;
+
+		private Hierarchy(Class<?>[] classes, int[] subtreeEnds, int[][] checksAfter) {
+			this.classes = classes;
+			this.subtreeEnds = subtreeEnds;
+			this.checksAfter = checksAfter;
+		}
+
+		static Hierarchy of(Class<?> cls) {
+			List<Class<?>> classes = new ArrayList<>();
+			List<Integer> subtreeEnds = new ArrayList<>();
+			List<List<Integer>> checksAfter = new ArrayList<>();
+			linearize(cls, classes, subtreeEnds, checksAfter, new HashSet<>());
+			int[][] checks = new int[classes.size()][];
+			for (int index = 0; index < checks.length; index++) {
+				List<Integer> checksOfIndex = checksAfter.get(index);
+				if (checksOfIndex != null) {
+					checks[index] = checksOfIndex.stream().mapToInt(Integer::intValue).toArray();
+				}
+			}
+			return new Hierarchy(
+				classes.toArray(new Class<?>[classes.size()]),
+				subtreeEnds.stream().mapToInt(Integer::intValue).toArray(),
+				checks
+			);
+		}
+
+		private static void linearize(
+			Class<?> cls,
+			List<Class<?>> classes,
+			List<Integer> subtreeEnds,
+			List<List<Integer>> checksAfter,
+			Set<Class<?>> visitedInterfaces
+		) {
+			int index = classes.size();
+			classes.add(cls);
+			subtreeEnds.add(null);
+			checksAfter.add(null);
+			boolean checked = false;
+			for (Class<?> interf : cls.getInterfaces()) {
+				if (!visitedInterfaces.add(interf)) {
+					continue;
+				}
+				linearize(interf, classes, subtreeEnds, checksAfter, visitedInterfaces);
+				if (!checked) {
+					addCheck(checksAfter, classes.size() - 1, index);
+					checked = true;
+				}
+			}
+			Class<?> superClass = cls.getSuperclass();
+			if (superClass != null) {
+				addCheck(checksAfter, classes.size() - 1, index);
+				linearize(superClass, classes, subtreeEnds, checksAfter, visitedInterfaces);
+			}
+			subtreeEnds.set(index, classes.size());
+		}
+
+		private static void addCheck(List<List<Integer>> checksAfter, int position, int index) {
+			List<Integer> checks = checksAfter.get(position);
+			if (checks == null) {
+				checksAfter.set(position, checks = new ArrayList<>());
+			}
+			if (!checks.contains(index)) {
+				checks.add(index);
+			}
+		}
+
 	}
 
 	public static abstract class Handler<M extends Member, C extends MemberCriteria<M, C, ?>> {
+		final Facade facade;
+		final Cache cache;
+
+		Handler(Facade facade) {
+			this.facade = facade;
+			this.cache = facade.getCache();
+		}
 
 		public static abstract class OfExecutable<E extends Executable, C extends ExecutableMemberCriteria<E, C, ?>> extends Members.Handler<E, C> {
 
-			OfExecutable() {}
+			OfExecutable(Facade facade) {
+				super(facade);
+			}
 
 			public Collection<MethodHandle> findAllDirectHandle(C criteria, Class<?> clsFrom) {
 				return findAll(
@@ -225,55 +559,78 @@ public class Members {
 			}
 
 			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable) {
-				Class<?> targetClass = executable.getDeclaringClass();
-				String cacheKey = getCacheKey(targetClass, "equals " + retrieveNameForCaching(executable), executable.getParameterTypes());
-				return findDirectHandleBox(executable, cacheKey);
+				return checkAndGetExecutableBox(getExecutableBox(executable));
+			}
+
+			//Never throws: a handle that cannot be retrieved is cached in a box together with its failure record
+			Members.Handler.OfExecutable.Box<E> getExecutableBox(E executable) {
+				return cache.getMetadata(executable.getDeclaringClass()).getOrUploadExecutableBoxIfAbsent(
+					executable, this::retrieveExecutableBox
+				);
 			}
 
 			Members.Handler.OfExecutable.Box<E> checkAndGetExecutableBox(Members.Handler.OfExecutable.Box<E> executableBox) {
 				if (executableBox.getHandler() != null) {
 					return executableBox;
 				}
-				return Throwables.INSTANCE.throwException(executableBox.getException());
+				return Throwables.INSTANCE.throwException(
+					executableBox.failure.toException(facade.isFailureStackTracesEnabled())
+				);
 			}
 
-			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable, String cacheKey) {
-				return checkAndGetExecutableBox(
-					(Members.Handler.OfExecutable.Box<E>)Cache.INSTANCE.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(
-						cacheKey, () -> {
-							Class<?> methodDeclaringClass = executable.getDeclaringClass();
-							Collection<Members.Handler.OfExecutable.Box<E>> executableBoxes = new ArrayList<>();
+			//Returns Box.NOT_FOUND, which is cached like any other box, when the executable does not exist,
+			//so that probing a missing executable does not scan the hierarchy again on every call
+			//The executable is searched inside the supplier, so that concurrent requests for the same key scan the
+			//hierarchy once
+			Members.Handler.OfExecutable.Box<E> findDirectHandleBoxOrNegativeEntry(Cache.Key cacheKey, Supplier<E> executableFinder) {
+				Cache.PathForResources<Members.Handler.OfExecutable.Box<?>> executableBoxes = cache.uniqueKeyForExecutableAndMethodHandle;
+				boolean[] loaded = {false};
+				Members.Handler.OfExecutable.Box<E> entry = (Members.Handler.OfExecutable.Box<E>)executableBoxes.getOrUploadIfAbsent(
+					cacheKey, () -> {
+						loaded[0] = true;
+						E executable = executableFinder.get();
+						return executable != null ?
+							getExecutableBox(executable) :
+							Members.Handler.OfExecutable.Box.NOT_FOUND;
+					}
+				);
+				if (!loaded[0] && (entry.getHandler() == null)) {
+					executableBoxes.statisticsCounter.negativeHitCount.increment();
+				}
+				return entry;
+			}
+
+			Members.Handler.OfExecutable.Box<E> retrieveExecutableBox(E executable) {
+				Class<?> methodDeclaringClass = executable.getDeclaringClass();
+				Throwable[] firstException = {null};
+				try {
+					return (Members.Handler.OfExecutable.Box<E>)facade.executeWithConsulter(
+						methodDeclaringClass,
+						consulter -> {
 							try {
-								return (Members.Handler.OfExecutable.Box<E>)Facade.INSTANCE.executeWithConsulter(
-									methodDeclaringClass,
-									consulter -> {
-										Throwable exception = null;
-										MethodHandle methodHandle = null;
-										try {
-											methodHandle = retrieveMethodHandle(consulter, executable);
-										} catch (Throwable exc) {
-											exception = exc;
-										}
-										Members.Handler.OfExecutable.Box<E> executableBox = new Members.Handler.OfExecutable.Box<>(consulter,
-											executable,
-											methodHandle,
-											exception
-										);
-										executableBoxes.add(
-											executableBox
-										);
-										if (exception != null) {
-											throw exception;
-										}
-										return executableBox;
-									}
-								).getValue();
+								return new Members.Handler.OfExecutable.Box<>(
+									consulter,
+									executable,
+									retrieveMethodHandle(consulter, executable),
+									null
+								);
 							} catch (Throwable exc) {
-								return executableBoxes.iterator().next();
+								if (firstException[0] == null) {
+									firstException[0] = exc;
+								}
+								throw exc;
 							}
 						}
-					)
-				);
+					).getValue();
+				} catch (Throwable exc) {
+					//The consulter is not retained and the exception only if the failure stack traces are enabled
+					return new Members.Handler.OfExecutable.Box<>(
+						null,
+						executable,
+						null,
+						Members.Handler.OfExecutable.Box.Failure.of(firstException[0] != null ? firstException[0] : exc, facade)
+					);
+				}
 			}
 
 			Object[] getArgumentArray(
@@ -366,8 +723,6 @@ public class Members {
 
 			abstract MethodHandle retrieveMethodHandle(MethodHandles.Lookup consulter, E executable) throws NoSuchMethodException, IllegalAccessException;
 
-			abstract String retrieveNameForCaching(E executable);
-
 			static Class<?>[] retrieveParameterTypes(Executable member, List<Class<?>> argumentsClassesAsList) {
 				Parameter[] memberParameter = member.getParameters();
 				Class<?>[] memberParameterTypes = member.getParameterTypes();
@@ -445,17 +800,19 @@ public class Members {
 			}
 
 			public static class Box<E extends Member> {
+				static final Box<?> NOT_FOUND = new Box<>(null, null, null, null);
+
 				MethodHandles.Lookup consulter;
 				E executable;
 				MethodHandle handler;
-				Throwable exception;
+				Failure failure;
 
-				Box(final MethodHandles.Lookup consulter, final E executable, final MethodHandle handler, final Throwable exception) {
+				Box(final MethodHandles.Lookup consulter, final E executable, final MethodHandle handler, final Failure failure) {
 					super();
 					this.consulter = consulter;
 					this.executable = executable;
 					this.handler = handler;
-					this.exception = exception;
+					this.failure = failure;
 				}
 
 				public MethodHandles.Lookup getConsulter() {
@@ -470,8 +827,133 @@ public class Members {
 					return handler;
 				}
 
+				public Failure getFailure() {
+					return failure;
+				}
+
+				//Returns a new exception of the original type at each call, with a stack trace only if the facade enables them,
+				//or the original exception if it has been retained
 				public Throwable getException() {
-					return exception;
+					return failure != null ? failure.toException(failure.isStackTraceWritable()) : null;
+				}
+
+				public static class Failure {
+					static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+					//The constructor with a message of each exception type, looked up once per type
+					static final ClassValue<Optional<Constructor<? extends Throwable>>> MESSAGE_CONSTRUCTORS =
+						new ClassValue<Optional<Constructor<? extends Throwable>>>() {
+							@Override
+							protected Optional<Constructor<? extends Throwable>> computeValue(Class<?> type) {
+								try {
+									return Optional.of(type.asSubclass(Throwable.class).getConstructor(String.class));
+								} catch (NoSuchMethodException | RuntimeException exc) {
+									return Optional.empty();
+								}
+							}
+						};
+
+					final Reason reason;
+					final Class<? extends Throwable> type;
+					final String message;
+					final Throwable cause;
+					//The original exception is retained, and rethrown, only if the failure stack traces were enabled
+					//when the failure occurred
+					final Throwable exception;
+					//Weakly referenced, like the cache from the class metadata, so that a cached failure does not keep
+					//its facade alive
+					final WeakReference<Facade> facade;
+
+					Failure(Reason reason, Throwable exception, Facade facade) {
+						this.reason = reason;
+						this.type = exception.getClass();
+						this.message = exception.getMessage();
+						this.cause = exception.getCause();
+						this.exception = (facade != null) && facade.isFailureStackTracesEnabled() ? exception : null;
+						this.facade = new WeakReference<>(facade);
+					}
+
+					static Failure of(Throwable exception, Facade facade) {
+						Reason reason =
+							exception instanceof NoSuchMethodException ?
+								Reason.MEMBER_NOT_FOUND :
+							exception instanceof IllegalAccessException ?
+								Reason.ACCESS_DENIED :
+								Reason.OTHER;
+						return new Failure(reason, exception, facade);
+					}
+
+					public Reason getReason() {
+						return reason;
+					}
+
+					public Class<? extends Throwable> getType() {
+						return type;
+					}
+
+					public String getMessage() {
+						return message;
+					}
+
+					public Throwable getCause() {
+						return cause;
+					}
+
+					boolean isStackTraceWritable() {
+						Facade facade = this.facade.get();
+						return (facade != null) && facade.isFailureStackTracesEnabled();
+					}
+
+					//Rethrows the original exception when it has been retained and stack traces are requested, otherwise
+					//recreates an exception of the original type, which is the one the callers expect, with the original
+					//cause and falls back to a RetrievalException when that type cannot be instantiated with a message
+					Throwable toException(boolean writableStackTrace) {
+						if (writableStackTrace && (exception != null)) {
+							return exception;
+						}
+						Optional<Constructor<? extends Throwable>> constructor = MESSAGE_CONSTRUCTORS.get(type);
+						if (!constructor.isPresent()) {
+							return new RetrievalException(this, writableStackTrace);
+						}
+						Throwable exception;
+						try {
+							exception = constructor.get().newInstance(message);
+						} catch (ReflectiveOperationException | RuntimeException exc) {
+							return new RetrievalException(this, writableStackTrace);
+						}
+						if (cause != null) {
+							try {
+								exception.initCause(cause);
+							} catch (IllegalStateException exc) {
+								//The constructor has already set a cause
+							}
+						}
+						if (!writableStackTrace) {
+							exception.setStackTrace(EMPTY_STACK_TRACE);
+						}
+						return exception;
+					}
+
+					public enum Reason {
+						MEMBER_NOT_FOUND, ACCESS_DENIED, OTHER
+					}
+
+				}
+
+				public static class RetrievalException extends RuntimeException {
+
+					private static final long serialVersionUID = 7215361374839532147L;
+
+					private final Failure.Reason reason;
+
+					RetrievalException(Failure failure, boolean writableStackTrace) {
+						super(failure.type.getName() + ": " + failure.message, failure.cause, false, writableStackTrace);
+						this.reason = failure.reason;
+					}
+
+					public Failure.Reason getReason() {
+						return reason;
+					}
+
 				}
 
 			}
@@ -479,7 +961,7 @@ public class Members {
 		}
 
 		public Collection<M> findAll(C criteria, Class<?> classFrom) {
-			return Members.INSTANCE.findAll(criteria, classFrom);
+			return facade.getMembers().findAll(criteria, classFrom);
 		}
 
 		public Collection<M> findAllAndMakeThemAccessible(
@@ -493,24 +975,45 @@ public class Members {
 			);
 		}
 
+		public Map<Class<?>, Collection<M>> findAll(C criteria, Collection<Class<?>> classesFrom) {
+			return facade.getMembers().findAll(criteria, classesFrom);
+		}
+
+		public Map<Class<?>, Collection<M>> findAll(C criteria, Collection<Class<?>> classesFrom, ForkJoinPool pool) {
+			return facade.getMembers().findAll(criteria, classesFrom, pool);
+		}
+
+		public Stream<M> stream(C criteria, Class<?> classFrom) {
+			return facade.getMembers().stream(criteria, classFrom);
+		}
+
 		public M findFirst(C criteria, Class<?> classFrom) {
-			return Members.INSTANCE.findFirst(criteria, classFrom);
+			return facade.getMembers().findFirst(criteria, classFrom);
 		}
 
 		public M findOne(C criteria, Class<?> classFrom) {
-			return Members.INSTANCE.findOne(criteria, classFrom);
+			return facade.getMembers().findOne(criteria, classFrom);
 		}
 
 		public boolean match(C criteria, Class<?> classFrom) {
-			return Members.INSTANCE.match(criteria, classFrom);
+			return facade.getMembers().match(criteria, classFrom);
 		}
 
 		public void setAccessible(M member, boolean flag) {
-			Facade.INSTANCE.setAccessible(((AccessibleObject)member), flag);
+			facade.setAccessible(((AccessibleObject)member), flag);
 		}
 
 		Collection<M> findAllAndApply(C criteria, Class<?> targetClass, Consumer<M>... consumers) {
-			Collection<M> members = findAll(criteria, targetClass);
+			return apply(findAll(criteria, targetClass), consumers);
+		}
+
+		//Used by the methods that cache the members found under their own keys
+		@SafeVarargs
+		final Collection<M> findAllWithoutCacheAndApply(C criteria, Class<?> targetClass, Consumer<M>... consumers) {
+			return apply(facade.getMembers().findAllWithoutCache(criteria, targetClass), consumers);
+		}
+
+		private Collection<M> apply(Collection<M> members, Consumer<M>... consumers) {
 			Optional.ofNullable(consumers).ifPresent(cnsms ->
 				members.stream().forEach(member ->
 					Stream.of(cnsms).filter(consumer ->
@@ -537,22 +1040,8 @@ public class Members {
 			return member;
 		}
 
-		String getCacheKey(Class<?> targetClass, String groupName, Class<?>... arguments) {
-			if (arguments == null) {
-				arguments = new Class<?>[] {null};
-			}
-			String argumentsKey = "";
-			if (arguments != null && arguments.length > 0) {
-				StringBuffer argumentsKeyStringBuffer = new StringBuffer();
-				Stream.of(arguments).forEach(cls ->
-					argumentsKeyStringBuffer.append("/" + Optional.ofNullable(cls).map(Class::getName).orElseGet(() ->"null"))
-				);
-				argumentsKey = argumentsKeyStringBuffer.toString();
-			}
-			String cacheKey = "/" + targetClass.getName() + "@" + targetClass.hashCode() +
-				"/" + groupName +
-				argumentsKey;
-			return cacheKey;
+		Cache.Key getCacheKey(Class<?> targetClass, String operation, String name, Class<?>... arguments) {
+			return new Cache.Key(targetClass, operation, name, arguments);
 		}
 	}
 
@@ -29,6 +29,7 @@
 package org.burningwave.reflection;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -42,6 +43,15 @@ public class MethodCriteria extends ExecutableMemberCriteria<
 		super();
 	}
 
+	private MethodCriteria(boolean immutable) {
+		super(immutable);
+	}
+
+	@Override
+	MethodCriteria newInstance(boolean immutable) {
+		return new MethodCriteria(immutable);
+	}
+
 	public static MethodCriteria byScanUpTo(BiPredicate<Class<?>, Class<?>> predicate) {
 		return new MethodCriteria().scanUpTo(predicate);
 	}
@@ -61,22 +71,31 @@ public class MethodCriteria extends ExecutableMemberCriteria<
 	}
 
 	public MethodCriteria returnType(final Predicate<Class<?>> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return allThoseThatMatch(
 			(context, member) -> predicate.test(member.getReturnType())
 		);
-		return this;
+	}
+
+	public MethodCriteria returnType(final Class<?> returnType) {
+		return addDeclarativeCondition(
+			"returnType=#", new Class<?>[] {returnType},
+			criteria -> criteria.returnType(type -> type == returnType)
+		);
+	}
+
+	@Override
+	Function<Class<?>, Method[]> getMembersSupplierFunction(Cache cache) {
+		String exactName = this.exactName;
+		if (exactName != null) {
+			return clazz ->
+				cache.getMetadata(clazz).getDeclaredMethods(exactName);
+		}
+		return clazz ->
+			cache.getMetadata(clazz).getDeclaredMethods();
 	}
 
 	@Override
-	Function<Class<?>, Method[]> getMembersSupplierFunction() {
-		return clazz -> {
-			final String cacheKey = Constructors.INSTANCE.getCacheKey(clazz, Members.ALL_FOR_CLASS);
-			return Cache.INSTANCE.uniqueKeyForMethodsArray.getOrUploadIfAbsent(
-				cacheKey, () -> {
-					return Facade.INSTANCE.getDeclaredMethods(clazz);
-				}
-			);
-		};
+	Cache.PathForResources<Collection<Method>> getPathForResults(Cache cache) {
+		return cache.uniqueKeyForAllMethods;
 	}
-}
\ No newline at end of file
+}
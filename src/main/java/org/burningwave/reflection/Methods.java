@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -54,19 +55,23 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	public final static Methods INSTANCE;
 
 	static {
-		INSTANCE = new Methods();
+		INSTANCE = new Methods(Facade.INSTANCE);
 	}
 
-	private Methods(){}
+	Methods(Facade facade) {
+		super(facade);
+	}
 
 	public Collection<Method> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS);
-		Collection<Method> members = Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+		Cache.Key cacheKey = getCacheKey(targetClass, Members.ALL_FOR_CLASS, null, (Class<?>[])null);
+		Collection<Method> members = cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(
 			cacheKey, () -> {
-				return findAllAndMakeThemAccessible(
-					MethodCriteria.forEntireClassHierarchy(), targetClass
+				return findAllWithoutCacheAndApply(
+					MethodCriteria.forEntireClassHierarchy(), targetClass, (member) -> {
+						setAccessible(member, true);
+					}
 				);
 			}
 		);
@@ -78,7 +83,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals " + methodName, methodName::equals, inputParameterTypesOrSubTypes);
+		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals", methodName, methodName::equals, inputParameterTypesOrSubTypes);
 	}
 
 	public Collection<Method> findAllByMatchedNameAndMakeThemAccessible(
@@ -87,7 +92,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
 		return findAllByNamePredicateAndMakeThemAccessible(
-			targetClass, "match " + regEx,
+			targetClass, "match", regEx,
 			name -> name.matches(regEx),
 			inputParameterTypesOrSubTypes
 		);
@@ -97,6 +102,12 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return findDirectHandleBox(targetClass, methodName, inputParameterTypesOrSubTypes).getHandler();
 	}
 
+	public Optional<MethodHandle> findOptionalDirectHandle(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		return Optional.ofNullable(
+			findDirectHandleBoxOrNegativeEntry(targetClass, methodName, inputParameterTypesOrSubTypes).getHandler()
+		);
+	}
+
 	public Method findFirstAndMakeItAccessible(Class<?> targetClass, String memberName, Class<?>... inputParameterTypesOrSubTypes) {
 		Collection<Method> members = findAllByExactNameAndMakeThemAccessible(targetClass, memberName, inputParameterTypesOrSubTypes);
 		if (members.size() == 1) {
@@ -136,7 +147,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	}
 
 	public <T> T invoke(Object target, Method method, Object... params) {
-		return Facade.INSTANCE.invoke(target, method, params);
+		return facade.invoke(target, method, params);
 	}
 
 	public <T> T invoke(Object target, String methodName, Object... arguments) {
@@ -205,66 +216,62 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		Class<?> methodDeclaringClass = method.getDeclaringClass();
 		return !Modifier.isStatic(method.getModifiers())?
 			consulter.findSpecial(
-				methodDeclaringClass, retrieveNameForCaching(method),
+				methodDeclaringClass, method.getName(),
 				MethodType.methodType(method.getReturnType(), method.getParameterTypes()),
 				methodDeclaringClass
 			):
 			consulter.findStatic(
-				methodDeclaringClass, retrieveNameForCaching(method),
+				methodDeclaringClass, method.getName(),
 				MethodType.methodType(method.getReturnType(), method.getParameterTypes())
 			);
 	}
 
-	@Override
-	String retrieveNameForCaching(Method method) {
-		return method.getName();
-	}
-
 	private Collection<Method> findAllByNamePredicateAndMakeThemAccessible(
 		Class<?> targetClass,
-		String cacheKeyPrefix,
+		String operation,
+		String name,
 		Predicate<String> namePredicate,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		String cacheKey = getCacheKey(targetClass, cacheKeyPrefix, inputParameterTypesOrSubTypes);
-		return Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(cacheKey, () -> {
-			MethodCriteria criteria = MethodCriteria.forEntireClassHierarchy()
-				.name(namePredicate)
+		Cache.Key cacheKey = getCacheKey(targetClass, operation, name, inputParameterTypesOrSubTypes);
+		return cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(cacheKey, () -> {
+			//An exact name lets the criteria be served by the name index of each class
+			Supplier<MethodCriteria> criteriaSupplier = "equals".equals(operation) ?
+				() -> MethodCriteria.forEntireClassHierarchy().name(name) :
+				() -> MethodCriteria.forEntireClassHierarchy().name(namePredicate);
+			MethodCriteria criteria = criteriaSupplier.get()
 				.and().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
 			if (inputParameterTypesOrSubTypes != null && inputParameterTypesOrSubTypes.length == 0) {
-				criteria = criteria.or(MethodCriteria.forEntireClassHierarchy().name(namePredicate).and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
+				criteria = criteria.or(criteriaSupplier.get().and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
 			}
-			MethodCriteria finalCriteria = criteria;
-			return Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(cacheKey, () ->
-				findAllAndApply(
-						finalCriteria, targetClass, (member) -> {
-						setAccessible(member, true);
-					}
-				)
+			return findAllWithoutCacheAndApply(
+				criteria, targetClass, (member) -> {
+					setAccessible(member, true);
+				}
 			);
 		});
 	}
 
 	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBox(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
-		String cacheKey = getCacheKey(targetClass, "equals " + methodName, inputParameterTypesOrSubTypes);
 		Members.Handler.OfExecutable.Box<Method> entry =
-			(Box<Method>)Cache.INSTANCE.uniqueKeyForExecutableAndMethodHandle.get(cacheKey);
-		if (entry == null) {
-			Method method = findFirstAndMakeItAccessible(targetClass, methodName, inputParameterTypesOrSubTypes);
-			if (method == null) {
-				Throwables.INSTANCE.throwException(
-					new NoSuchMethodException(
-						Strings.INSTANCE.compile(
-							"Method {} not found in {} hierarchy", methodName, targetClass.getName()
-						)
+			findDirectHandleBoxOrNegativeEntry(targetClass, methodName, inputParameterTypesOrSubTypes);
+		if (entry == Members.Handler.OfExecutable.Box.NOT_FOUND) {
+			Throwables.INSTANCE.throwException(
+				new NoSuchMethodException(
+					Strings.INSTANCE.compile(
+						"Method {} not found in {} hierarchy", methodName, targetClass.getName()
 					)
-				);
-			}
-			entry = findDirectHandleBox(
-				method, cacheKey
+				)
 			);
 		}
-		return entry;
+		return checkAndGetExecutableBox(entry);
+	}
+
+	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBoxOrNegativeEntry(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		return findDirectHandleBoxOrNegativeEntry(
+			getCacheKey(targetClass, "equals", methodName, inputParameterTypesOrSubTypes),
+			() -> findFirstAndMakeItAccessible(targetClass, methodName, inputParameterTypesOrSubTypes)
+		);
 	}
 
 	private <T> T invoke(Class<?> targetClass, Object target, String methodName, ThrowingFunction<Method, T, Throwable> methodInvoker, Object... arguments) {
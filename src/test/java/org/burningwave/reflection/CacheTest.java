@@ -1,5 +1,40 @@
 package org.burningwave.reflection;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.ObjectName;
+
+import org.burningwave.reflection.service.Service;
 import org.junit.jupiter.api.Test;
 
 public class CacheTest extends BaseTest {
@@ -11,4 +46,558 @@ public class CacheTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void awaitClearCacheTest() {
+		testDoesNotThrow(() -> {
+			Collection<CompletableFuture<Void>> cleanings = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				cleanings.add(Facade.INSTANCE.clearCache());
+			}
+			for (CompletableFuture<Void> cleaning : cleanings) {
+				cleaning.join();
+			}
+			assertTrue(Facade.INSTANCE.clearCache(true).isDone());
+		});
+	}
+
+	@Test
+	public void getMetadataTest() {
+		Cache.ClassMetadata metadata = Cache.INSTANCE.getMetadata(Integer.class);
+		assertSame(metadata.getDeclaredMethods(), Cache.INSTANCE.getMetadata(Integer.class).getDeclaredMethods());
+		Facade.INSTANCE.clearCache();
+		assertNotSame(metadata, Cache.INSTANCE.getMetadata(Integer.class));
+	}
+
+	@Test
+	public void keyEqualityTest() {
+		assertEquals(
+			new Cache.Key(Integer.class, "equals", "valueOf", int.class),
+			new Cache.Key(Integer.class, "equals", "valueOf", int.class)
+		);
+		assertNotEquals(
+			new Cache.Key(Integer.class, "equals", "valueOf", int.class),
+			new Cache.Key(Integer.class, "equals", "valueOf", String.class)
+		);
+		assertNotEquals(
+			new Cache.Key(Integer.class, "equals", "valueOf", (Class<?>[])null),
+			new Cache.Key(Integer.class, "equals", "valueOf")
+		);
+	}
+
+	@Test
+	public void concurrentLoadingTest() {
+		Cache.Key key = new Cache.Key(CacheTest.class, "concurrent loading", null, (Class<?>[])null);
+		AtomicInteger loadCounter = new AtomicInteger();
+		Collection<CompletableFuture<Collection<Method>>> loaders = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			loaders.add(CompletableFuture.supplyAsync(() ->
+				Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> {
+					loadCounter.incrementAndGet();
+					waitFor(1);
+					return Collections.emptyList();
+				})
+			));
+		}
+		for (CompletableFuture<Collection<Method>> loader : loaders) {
+			assertNotNull(loader.join());
+		}
+		assertEquals(1, loadCounter.get());
+	}
+
+	@Test
+	public void boundedCacheTest() {
+		try {
+			Cache.INSTANCE.setMaximumSize(16);
+			for (int i = 0; i < 64; i++) {
+				Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+					new Cache.Key(CacheTest.class, "bounded", String.valueOf(i), (Class<?>[])null),
+					Collections::emptyList
+				);
+			}
+			assertTrue(Cache.INSTANCE.uniqueKeyForAllMethods.getLoadedResourcesCount() <= 16);
+		} finally {
+			Cache.INSTANCE.setUnbounded();
+		}
+	}
+
+	@Test
+	public void boundedCacheAcrossPathsTest() {
+		try (Facade engine = Facade.create()) {
+			Cache cache = engine.getCache().setMaximumSize(16);
+			for (int i = 0; i < 64; i++) {
+				cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+					new Cache.Key(CacheTest.class, "bounded", String.valueOf(i), (Class<?>[])null),
+					Collections::emptyList
+				);
+				cache.uniqueKeyForAllFields.getOrUploadIfAbsent(
+					new Cache.Key(CacheTest.class, "bounded", String.valueOf(i), (Class<?>[])null),
+					Collections::emptyList
+				);
+			}
+			assertTrue(
+				cache.uniqueKeyForAllMethods.getLoadedResourcesCount() + cache.uniqueKeyForAllFields.getLoadedResourcesCount() <= 16
+			);
+		}
+	}
+
+	@Test
+	public void readBufferTest() {
+		Cache.ReadBuffer readBuffer = new Cache.ReadBuffer();
+		Cache.FrequencySketch sketch = new Cache.FrequencySketch(64);
+		Cache.Key key = new Cache.Key(CacheTest.class, "read buffer", null, (Class<?>[])null);
+		for (int i = 1; i < Cache.ReadBuffer.STRIPE_SIZE; i++) {
+			assertFalse(readBuffer.offer(key));
+		}
+		assertTrue(readBuffer.offer(key));
+		assertTrue(readBuffer.offer(key));
+		assertEquals(0, sketch.frequency(key.hashCode));
+		readBuffer.drainTo(sketch);
+		assertTrue(sketch.frequency(key.hashCode) > 0);
+		assertFalse(readBuffer.offer(key));
+	}
+
+	@Test
+	public void statisticsTest() throws Exception {
+		Cache.Key key = new Cache.Key(CacheTest.class, "statistics", null, (Class<?>[])null);
+		Cache.Statistics initialStatistics = Cache.INSTANCE.getStatistics().get("allMethods");
+		Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, Collections::emptyList);
+		Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, Collections::emptyList);
+		Cache.Statistics statistics = Cache.INSTANCE.getStatistics().get("allMethods");
+		assertEquals(initialStatistics.getMissCount() + 1, statistics.getMissCount());
+		assertEquals(initialStatistics.getHitCount() + 1, statistics.getHitCount());
+		assertEquals(initialStatistics.getLoadCount() + 1, statistics.getLoadCount());
+		assertTrue(
+			ManagementFactory.getPlatformMBeanServer().isRegistered(
+				new ObjectName("org.burningwave.reflection:type=Cache,name=allMethods")
+			)
+		);
+	}
+
+	@Test
+	public void invalidateTest() {
+		Cache.Key keyOfClass = new Cache.Key(CacheTest.class, "invalidation", null, (Class<?>[])null);
+		Cache.Key keyOfParameterType = new Cache.Key(Integer.class, "invalidation", "valueOf", CacheTest.class);
+		Cache.Key keyOfOtherClass = new Cache.Key(Integer.class, "invalidation", null, (Class<?>[])null);
+		for (Cache.Key key : new Cache.Key[] {keyOfClass, keyOfParameterType, keyOfOtherClass}) {
+			Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, Collections::emptyList);
+		}
+		Cache.ClassMetadata metadata = Cache.INSTANCE.getMetadata(CacheTest.class);
+		Facade.INSTANCE.clearCache(BaseTest.class);
+		assertFalse(Cache.INSTANCE.uniqueKeyForAllMethods.contains(keyOfClass));
+		assertFalse(Cache.INSTANCE.uniqueKeyForAllMethods.contains(keyOfParameterType));
+		assertTrue(Cache.INSTANCE.uniqueKeyForAllMethods.contains(keyOfOtherClass));
+		assertSame(metadata, Cache.INSTANCE.getMetadata(CacheTest.class));
+		Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(keyOfClass, Collections::emptyList);
+		Facade.INSTANCE.clearCacheOfPackage("org.burningwave");
+		assertFalse(Cache.INSTANCE.uniqueKeyForAllMethods.contains(keyOfClass));
+		assertTrue(Cache.INSTANCE.uniqueKeyForAllMethods.contains(keyOfOtherClass));
+		assertNotSame(metadata, Cache.INSTANCE.getMetadata(CacheTest.class));
+		assertSame(Cache.INSTANCE.getMetadata(Integer.class), Cache.INSTANCE.getMetadata(Integer.class));
+	}
+
+	@Test
+	public void resourceTableTest() {
+		Cache.ResourceTable<String> resources = new Cache.ResourceTable<>(4);
+		Cache.Key[] keys = new Cache.Key[1024];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = new Cache.Key(CacheTest.class, "table", String.valueOf(i), (Class<?>[])null);
+			assertNull(resources.put(keys[i], String.valueOf(i)));
+		}
+		for (int i = 0; i < keys.length; i += 2) {
+			assertEquals(String.valueOf(i), resources.remove(keys[i]));
+		}
+		assertEquals(keys.length / 2, resources.size());
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals((i % 2) == 0 ? null : String.valueOf(i), resources.get(keys[i]));
+		}
+		assertFalse(resources.remove(keys[1], "other"));
+		assertEquals("1", resources.put(keys[1], "replaced"));
+		assertEquals("replaced", resources.get(keys[1]));
+	}
+
+	@Test
+	public void snapshotTest() throws Exception {
+		Path snapshotFile = Files.createTempFile("burningwave-reflection", ".snapshot");
+		Cache.Key key = new Cache.Key(CacheTest.class, "snapshot", null, (Class<?>[])null);
+		Collection<Method> methods = Collections.unmodifiableCollection(
+			new LinkedHashSet<>(Arrays.asList(Cache.INSTANCE.getMetadata(CacheTest.class).getDeclaredMethods()))
+		);
+		Method accessibleMethod = CacheTest.class.getDeclaredMethod("snapshotTest");
+		try {
+			for (Method method : methods) {
+				method.setAccessible(method.equals(accessibleMethod));
+			}
+			Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> methods);
+			Cache.INSTANCE.writeSnapshot(snapshotFile);
+			Cache.INSTANCE.uniqueKeyForAllMethods.remove(key, false);
+			for (Method method : methods) {
+				method.setAccessible(false);
+			}
+			Cache.INSTANCE.loadSnapshot(snapshotFile);
+			Collection<Method> rehydratedMethods = Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> {
+				throw new IllegalStateException("Entry not rehydrated from snapshot");
+			});
+			assertEquals(new LinkedHashSet<>(methods), new LinkedHashSet<>(rehydratedMethods));
+			for (Method method : rehydratedMethods) {
+				assertEquals(method.equals(accessibleMethod), method.isAccessible());
+			}
+		} finally {
+			Cache.INSTANCE.discardSnapshot();
+			Files.delete(snapshotFile);
+		}
+	}
+
+	@Test
+	public void negativeResultTest() {
+		assertFalse(Methods.INSTANCE.findOptionalDirectHandle(CacheTest.class, "notExistingMethod").isPresent());
+		Cache.Statistics initialStatistics = Cache.INSTANCE.getStatistics().get("executablesAndMethodHandles");
+		long initialLoadCount = Cache.INSTANCE.getStatistics().get("allMethods").getLoadCount();
+		assertFalse(Methods.INSTANCE.findOptionalDirectHandle(CacheTest.class, "notExistingMethod").isPresent());
+		Cache.Statistics statistics = Cache.INSTANCE.getStatistics().get("executablesAndMethodHandles");
+		assertEquals(initialStatistics.getNegativeHitCount() + 1, statistics.getNegativeHitCount());
+		assertEquals(initialStatistics.getMissCount(), statistics.getMissCount());
+		assertEquals(initialLoadCount, Cache.INSTANCE.getStatistics().get("allMethods").getLoadCount());
+		assertThrows(Methods.NoSuchMethodException.class, () -> Methods.INSTANCE.findDirectHandle(CacheTest.class, "notExistingMethod"));
+		assertTrue(Methods.INSTANCE.findOptionalDirectHandle(CacheTest.class, "negativeResultTest").isPresent());
+		assertFalse(Constructors.INSTANCE.findOptionalDirectHandle(CacheTest.class, String.class).isPresent());
+		assertTrue(Constructors.INSTANCE.findOptionalDirectHandle(CacheTest.class).isPresent());
+	}
+
+	@Test
+	public void frontCacheTest() throws Exception {
+		Cache.Key key = new Cache.Key(CacheTest.class, "front cache", null, (Class<?>[])null);
+		Collection<Field> fields = Collections.emptyList();
+		Cache.INSTANCE.setFrontCacheSize(64);
+		try {
+			Cache.INSTANCE.uniqueKeyForAllFields.getOrUploadIfAbsent(key, () -> fields);
+			long hitCount = Cache.INSTANCE.getStatistics().get("allFields").getHitCount();
+			assertSame(fields, Cache.INSTANCE.uniqueKeyForAllFields.get(new Cache.Key(CacheTest.class, "front cache", null, (Class<?>[])null)));
+			assertEquals(hitCount, Cache.INSTANCE.getStatistics().get("allFields").getHitCount());
+			Cache.INSTANCE.uniqueKeyForAllFields.remove(key, false);
+			assertNull(Cache.INSTANCE.uniqueKeyForAllFields.get(key));
+			Cache.INSTANCE.uniqueKeyForAllFields.getOrUploadIfAbsent(key, () -> fields);
+			Cache.INSTANCE.clear(false, true).join();
+			assertNull(Cache.INSTANCE.uniqueKeyForAllFields.get(key));
+			Cache.Key keyOfPlugin = new Cache.Key(new DisposableClassLoader().define(Plugin.class), "front cache", null, (Class<?>[])null);
+			Cache.INSTANCE.uniqueKeyForAllFields.getOrUploadIfAbsent(keyOfPlugin, () -> fields);
+			hitCount = Cache.INSTANCE.getStatistics().get("allFields").getHitCount();
+			assertSame(fields, Cache.INSTANCE.uniqueKeyForAllFields.get(keyOfPlugin));
+			assertEquals(hitCount + 1, Cache.INSTANCE.getStatistics().get("allFields").getHitCount());
+			Cache.INSTANCE.uniqueKeyForAllFields.remove(keyOfPlugin, false);
+		} finally {
+			Cache.INSTANCE.setFrontCacheSize(0);
+		}
+	}
+
+	@Test
+	public void isolatedEngineTest() {
+		try (Facade engine = Facade.create()) {
+			assertNotSame(Cache.INSTANCE, engine.getCache());
+			assertSame(engine, engine.getCache().getFacade());
+			assertSame(Methods.INSTANCE, Facade.INSTANCE.getMethods());
+			long defaultLoadCount = Cache.INSTANCE.getStatistics().get("allMethods").getLoadCount();
+			Collection<Method> methods = engine.getMethods().findAllAndMakeThemAccessible(CacheTest.class);
+			assertFalse(methods.isEmpty());
+			assertEquals(1, engine.getCache().getStatistics().get("allMethods").getLoadCount());
+			assertEquals(defaultLoadCount, Cache.INSTANCE.getStatistics().get("allMethods").getLoadCount());
+			assertEquals("isolated", engine.getMethods().invokeStatic(CacheTest.class, "isolatedEngineValue"));
+			engine.clearCache(true).join();
+			assertEquals(0, engine.getCache().uniqueKeyForAllMethods.getLoadedResourcesCount());
+		}
+	}
+
+	@Test
+	public void closeTest() throws Exception {
+		Facade engine = Facade.create();
+		engine.getCache().registerMBeans();
+		ObjectName objectName = new ObjectName(
+			"org.burningwave.reflection:type=Cache,name=allMethods,id=" + Integer.toHexString(System.identityHashCode(engine.getCache()))
+		);
+		assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+		engine.getMethods().findAllAndMakeThemAccessible(CacheTest.class);
+		engine.close();
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+		assertEquals(0, engine.getCache().uniqueKeyForAllMethods.getLoadedResourcesCount());
+		assertThrows(Throwable.class, () -> Facade.INSTANCE.close());
+	}
+
+	static String isolatedEngineValue() {
+		return "isolated";
+	}
+
+	@Test
+	public void memoryPressureSheddingTest() {
+		try (Facade engine = Facade.create()) {
+			Cache cache = engine.getCache();
+			//Closing the engine disables the shedding
+			cache.enableMemoryPressureShedding(0.9);
+			Cache.Key key = new Cache.Key(CacheTest.class, "shedding", null, (Class<?>[])null);
+			Collection<Method> methods = engine.getMethods().findAllAndMakeThemAccessible(CacheTest.class);
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> methods);
+			assertEquals(2, cache.shed());
+			assertFalse(cache.uniqueKeyForAllMethods.contains(key));
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> methods);
+			Cache.Statistics statistics = cache.getStatistics().get("allMethods");
+			assertEquals(2, statistics.getShedCount());
+			assertEquals(1, statistics.getReloadCount());
+			//Only the keys of the last shedding are counted as reloads
+			cache.shed();
+			cache.shed();
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> methods);
+			assertEquals(1, cache.getStatistics().get("allMethods").getReloadCount());
+		}
+	}
+
+	@Test
+	public void memoryPressureThresholdsTest() {
+		Map<String, Long> collectionUsageThresholds = getCollectionUsageThresholds();
+		try (Facade engine = Facade.create(); Facade otherEngine = Facade.create()) {
+			engine.getCache().enableMemoryPressureShedding(0.9);
+			otherEngine.getCache().enableMemoryPressureShedding(0.8);
+			engine.getCache().disableMemoryPressureShedding();
+			for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if (collectionUsageThresholds.containsKey(memoryPool.getName()) && (memoryPool.getUsage().getMax() > 0)) {
+					assertEquals((long)(memoryPool.getUsage().getMax() * 0.8), memoryPool.getCollectionUsageThreshold());
+				}
+			}
+			otherEngine.getCache().disableMemoryPressureShedding();
+			assertEquals(collectionUsageThresholds, getCollectionUsageThresholds());
+		}
+	}
+
+	private Map<String, Long> getCollectionUsageThresholds() {
+		Map<String, Long> collectionUsageThresholds = new HashMap<>();
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if ((memoryPool.getType() == MemoryType.HEAP) && memoryPool.isCollectionUsageThresholdSupported()) {
+				collectionUsageThresholds.put(memoryPool.getName(), memoryPool.getCollectionUsageThreshold());
+			}
+		}
+		return collectionUsageThresholds;
+	}
+
+	@Test
+	public void redefinitionListenerTest() {
+		try (Facade engine = Facade.create()) {
+			Cache cache = engine.getCache();
+			engine.getMethods().findAllAndMakeThemAccessible(RedefinedParent.class);
+			engine.getMethods().findAllAndMakeThemAccessible(RedefinedChild.class);
+			engine.getMethods().findAllAndMakeThemAccessible(CacheTest.class);
+			Cache.RedefinitionListener redefinitionListener = new Cache.RedefinitionListener(cache, null);
+			assertNull(redefinitionListener.transform(null, RedefinedChild.class.getName().replace('.', '/'), null, null, new byte[0]));
+			assertEquals(3, cache.uniqueKeyForAllMethods.getLoadedResourcesCount());
+			assertNull(redefinitionListener.transform(null, RedefinedParent.class.getName().replace('.', '/'), RedefinedParent.class, null, new byte[0]));
+			assertEquals(1, cache.uniqueKeyForAllMethods.getLoadedResourcesCount());
+			assertTrue(cache.uniqueKeyForAllMethods.contains(new Cache.Key(CacheTest.class, Members.ALL_FOR_CLASS, null, (Class<?>[])null)));
+		}
+	}
+
+	public static class RedefinedParent {
+
+		public void redefinedMethod() {}
+
+	}
+
+	public static class RedefinedChild extends RedefinedParent {}
+
+	@Test
+	public void freezeTest() throws Exception {
+		try (Facade engine = Facade.create()) {
+			Cache cache = engine.getCache();
+			Cache.Key key = new Cache.Key(CacheTest.class, "frozen", null, (Class<?>[])null);
+			Cache.Key overflowKey = new Cache.Key(CacheTest.class, "overflow", null, (Class<?>[])null);
+			Collection<Method> methods = engine.getMethods().findAllAndMakeThemAccessible(CacheTest.class);
+			Cache.Key keyOfPlugin = new Cache.Key(new DisposableClassLoader().define(Plugin.class), "frozen", null, (Class<?>[])null);
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(key, () -> methods);
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(keyOfPlugin, () -> methods);
+			cache.freeze(false);
+			assertSame(methods, cache.uniqueKeyForAllMethods.get(key));
+			assertNull(cache.uniqueKeyForAllMethods.frozenResources.get(keyOfPlugin));
+			assertSame(methods, cache.uniqueKeyForAllMethods.get(keyOfPlugin));
+			assertSame(methods, cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(overflowKey, () -> methods));
+			assertFalse(cache.uniqueKeyForAllMethods.contains(overflowKey));
+			cache.freeze(true);
+			cache.uniqueKeyForAllMethods.getOrUploadIfAbsent(overflowKey, () -> methods);
+			assertTrue(cache.uniqueKeyForAllMethods.contains(overflowKey));
+			cache.invalidate(CacheTest.class);
+			assertNull(cache.uniqueKeyForAllMethods.get(key));
+			assertNull(cache.uniqueKeyForAllMethods.frozenResources.get(key));
+			cache.unfreeze();
+			assertNull(cache.uniqueKeyForAllMethods.frozenResources);
+		}
+	}
+
+	@Test
+	public void handleRetrievalFailureTest() throws Exception {
+		try (Facade engine = Facade.create()) {
+			Methods methods = engine.getMethods();
+			Members.Handler.OfExecutable.Box<Method> box = new Members.Handler.OfExecutable.Box<>(
+				null,
+				CacheTest.class.getDeclaredMethod("handleRetrievalFailureTest"),
+				null,
+				Members.Handler.OfExecutable.Box.Failure.of(new IllegalAccessException("no access"), engine)
+			);
+			assertEquals(Members.Handler.OfExecutable.Box.Failure.Reason.ACCESS_DENIED, box.getFailure().getReason());
+			assertSame(IllegalAccessException.class, box.getFailure().getType());
+			assertEquals("no access", box.getFailure().getMessage());
+			assertNotSame(box.getException(), box.getException());
+			assertTrue(box.getException() instanceof IllegalAccessException);
+			assertEquals(0, box.getException().getStackTrace().length);
+			IllegalAccessException exception = assertThrows(
+				IllegalAccessException.class, () -> methods.checkAndGetExecutableBox(box)
+			);
+			assertEquals("no access", exception.getMessage());
+			assertEquals(0, exception.getStackTrace().length);
+			engine.enableFailureStackTraces();
+			exception = assertThrows(
+				IllegalAccessException.class, () -> methods.checkAndGetExecutableBox(box)
+			);
+			assertTrue(exception.getStackTrace().length > 0);
+			assertTrue(box.getException().getStackTrace().length > 0);
+			IllegalStateException cause = new IllegalStateException("cause");
+			IllegalAccessException originalException = new IllegalAccessException("no access");
+			originalException.initCause(cause);
+			Members.Handler.OfExecutable.Box<Method> boxWithOriginalException = new Members.Handler.OfExecutable.Box<>(
+				null,
+				CacheTest.class.getDeclaredMethod("handleRetrievalFailureTest"),
+				null,
+				Members.Handler.OfExecutable.Box.Failure.of(originalException, engine)
+			);
+			assertSame(
+				originalException,
+				assertThrows(IllegalAccessException.class, () -> methods.checkAndGetExecutableBox(boxWithOriginalException))
+			);
+			engine.disableFailureStackTraces();
+			exception = assertThrows(
+				IllegalAccessException.class, () -> methods.checkAndGetExecutableBox(boxWithOriginalException)
+			);
+			assertNotSame(originalException, exception);
+			assertSame(cause, exception.getCause());
+			assertEquals(0, exception.getStackTrace().length);
+			Members.Handler.OfExecutable.Box<Method> boxWithUninstantiableFailure = new Members.Handler.OfExecutable.Box<>(
+				null,
+				CacheTest.class.getDeclaredMethod("handleRetrievalFailureTest"),
+				null,
+				Members.Handler.OfExecutable.Box.Failure.of(new Error() {}, engine)
+			);
+			assertTrue(
+				assertThrows(
+					Members.Handler.OfExecutable.Box.RetrievalException.class,
+					() -> methods.checkAndGetExecutableBox(boxWithUninstantiableFailure)
+				).getReason() == Members.Handler.OfExecutable.Box.Failure.Reason.OTHER
+			);
+		}
+	}
+
+	@Test
+	public void warmUpTest() {
+		testDoesNotThrow(() -> {
+			Collection<Class<?>> classes = Cache.INSTANCE.findClasses("org.burningwave.reflection", CacheTest.class.getClassLoader());
+			assertTrue(classes.contains(Cache.class));
+			assertTrue(classes.contains(CacheTest.class));
+			assertFalse(Cache.INSTANCE.findClasses("org.burningwave.reflect", CacheTest.class.getClassLoader()).contains(Cache.class));
+			//The URLs that are not valid URIs are skipped
+			try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] {new URL("file:/not existing folder/")}, CacheTest.class.getClassLoader()
+			)) {
+				assertTrue(Cache.INSTANCE.findClasses("org.burningwave.reflection", classLoader).contains(Cache.class));
+			}
+			Thread currentThread = Thread.currentThread();
+			ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(null);
+			try (Facade engine = Facade.create()) {
+				engine.warmUpCache("org.burningwave.reflection.service", false).join();
+				assertTrue(engine.getCache().getStatistics().get("allMethods").getLoadCount() > 0);
+			} finally {
+				currentThread.setContextClassLoader(contextClassLoader);
+			}
+			//Without the driver the methods of Object cannot be made accessible: they are skipped
+			try (Facade engine = Facade.create().disableDriver()) {
+				engine.warmUpCache(Arrays.asList(Service.class, Object.class), true).join();
+				assertTrue(engine.getCache().getStatistics().get("allMethods").getLoadFailureCount() > 0);
+				int loadedResourcesCount = engine.getCache().uniqueKeyForAllFields.getLoadedResourcesCount();
+				engine.getFields().findAllAndMakeThemAccessible(Service.class);
+				assertEquals(loadedResourcesCount, engine.getCache().uniqueKeyForAllFields.getLoadedResourcesCount());
+			}
+		});
+	}
+
+	@Test
+	public void classLoaderSegmentPurgeTest() throws Exception {
+		Cache.Key survivingKey = new Cache.Key(Integer.class, "segments", null, (Class<?>[])null);
+		Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(survivingKey, Collections::emptyList);
+		int loadedResourcesCount = Cache.INSTANCE.uniqueKeyForAllMethods.getLoadedResourcesCount();
+		cacheClassOfThrowawayClassLoader();
+		assertEquals(loadedResourcesCount + 2, Cache.INSTANCE.uniqueKeyForAllMethods.getLoadedResourcesCount());
+		for (int i = 0; (i < 100) && (Cache.INSTANCE.uniqueKeyForAllMethods.getLoadedResourcesCount() != loadedResourcesCount); i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertEquals(loadedResourcesCount, Cache.INSTANCE.uniqueKeyForAllMethods.getLoadedResourcesCount());
+		assertTrue(Cache.INSTANCE.uniqueKeyForAllMethods.contains(survivingKey));
+	}
+
+	private void cacheClassOfThrowawayClassLoader() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new URL[] {Plugin.class.getProtectionDomain().getCodeSource().getLocation()}, null
+		)) {
+			Class<?> cls = classLoader.loadClass(Plugin.class.getName());
+			assertNotSame(Plugin.class, cls);
+			Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+				new Cache.Key(cls, "segments", null, (Class<?>[])null),
+				Collections::emptyList
+			);
+			Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+				new Cache.Key(Integer.class, "segments", "valueOf", cls),
+				Collections::emptyList
+			);
+		}
+	}
+
+	@Test
+	public void invalidateClassLoaderTest() throws Exception {
+		WeakReference<ClassLoader> classLoaderReference = cacheAndInvalidateClassOfDisposableClassLoader();
+		for (int i = 0; (i < 100) && (classLoaderReference.get() != null); i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull(classLoaderReference.get());
+	}
+
+	private WeakReference<ClassLoader> cacheAndInvalidateClassOfDisposableClassLoader() throws Exception {
+		DisposableClassLoader classLoader = new DisposableClassLoader();
+		Class<?> cls = classLoader.define(Plugin.class);
+		Cache.INSTANCE.getMetadata(cls).getDeclaredMethods();
+		Cache.INSTANCE.uniqueKeyForAllMethods.getOrUploadIfAbsent(
+			new Cache.Key(cls, "invalidation", null, (Class<?>[])null),
+			Collections::emptyList
+		);
+		assertTrue(Cache.INSTANCE.invalidate(classLoader) > 0);
+		return new WeakReference<>(classLoader);
+	}
+
+	public static class Plugin {
+
+	}
+
+	private static class DisposableClassLoader extends ClassLoader {
+
+		DisposableClassLoader() {
+			super(CacheTest.class.getClassLoader());
+		}
+
+		Class<?> define(Class<?> cls) throws Exception {
+			try (InputStream inputStream = cls.getResourceAsStream(cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class")) {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				byte[] buffer = new byte[1024];
+				int bytesRead;
+				while ((bytesRead = inputStream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, bytesRead);
+				}
+				byte[] bytecode = outputStream.toByteArray();
+				return defineClass(cls.getName(), bytecode, 0, bytecode.length);
+			}
+		}
+
+	}
+
 }
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.burningwave.reflection.service.Service;
 import org.junit.jupiter.api.Test;
 
 
@@ -30,6 +31,13 @@ public class FieldsTest extends BaseTest {
 		true);
 	}
 
+	@Test
+	public void findAllByExactNameAndMakeThemAccessibleTestOne() {
+		testNotEmpty(() ->
+			Fields.INSTANCE.findAllByExactNameAndMakeThemAccessible(Service.class, "name", String.class)
+		);
+	}
+
 	@Test
 	public void setDirectTestOne() {
 		testDoesNotThrow(() -> {
@@ -2,6 +2,11 @@ package org.burningwave.reflection;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+
 import org.burningwave.reflection.Members;
 import org.burningwave.reflection.MethodCriteria;
 import org.burningwave.reflection.service.ExtendedService;
@@ -97,4 +102,42 @@ public class MembersTest extends BaseTest {
 			)
 		);
 	}
+
+	@Test
+	public void findAllTestTwo() {
+		testNotEmpty(() ->
+			Members.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("stream").and().allThoseThatMatch(method ->
+					method.getDeclaringClass() == Collection.class
+				),
+				ArrayList.class
+			)
+		);
+	}
+
+	@Test
+	public void findFirstTestTwo() {
+		testNotNull(() ->
+			Members.INSTANCE.findFirst(
+				MethodCriteria.forEntireClassHierarchy().name("getClass"),
+				ArrayList.class
+			)
+		);
+	}
+
+	@Test
+	public void findAllTestThree() {
+		MethodCriteria addMethods = MethodCriteria.forEntireClassHierarchy().name(name -> name.startsWith("add"));
+		MethodCriteria declaredMethods = MethodCriteria.withoutConsideringParentClasses();
+		FieldCriteria allFields = FieldCriteria.forEntireClassHierarchy();
+		Members.Results members = Members.INSTANCE.findAll(ArrayList.class, addMethods, declaredMethods, allFields);
+		assertTrue(members.size() == 3);
+		Collection<Method> foundAddMethods = members.get(addMethods);
+		Collection<Method> foundDeclaredMethods = members.get(declaredMethods);
+		Collection<Field> foundFields = members.get(allFields);
+		assertTrue(foundAddMethods.stream().allMatch(method -> method.getName().startsWith("add")));
+		assertTrue(new ArrayList<>(Members.INSTANCE.findAll(addMethods, ArrayList.class)).equals(new ArrayList<>(foundAddMethods)));
+		assertTrue(new ArrayList<>(Members.INSTANCE.findAll(declaredMethods, ArrayList.class)).equals(new ArrayList<>(foundDeclaredMethods)));
+		assertTrue(new ArrayList<>(Members.INSTANCE.findAll(allFields, ArrayList.class)).equals(new ArrayList<>(foundFields)));
+	}
 }
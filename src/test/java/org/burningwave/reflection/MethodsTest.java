@@ -1,5 +1,20 @@
 package org.burningwave.reflection;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import org.burningwave.Classes;
 import org.burningwave.reflection.service.Service;
 import org.junit.jupiter.api.Test;
@@ -258,4 +273,126 @@ public class MethodsTest extends BaseTest {
 	        ), true
 	    );
 	}
+
+	@Test
+	public void findAllByExactNameTestOne() {
+		testNotEmpty(() ->
+			Methods.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("add").and().parameterTypes(parameterTypes ->
+					parameterTypes.length == 2
+				), ArrayList.class
+			)
+		);
+	}
+
+	@Test
+	public void findAllByOneOfTwoExactNamesTestOne() {
+		assertTrue(
+			Methods.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("add").or().name("remove"), ArrayList.class
+			).stream().anyMatch(method -> method.getName().equals("remove"))
+		);
+	}
+
+	@Test
+	public void findAllByNegatedExactNameTestOne() {
+		Collection<Method> methods = Methods.INSTANCE.findAll(
+			MethodCriteria.forEntireClassHierarchy().name("add").negate(), ArrayList.class
+		);
+		assertTrue(
+			methods.stream().anyMatch(method -> method.getName().equals("remove")) &&
+			methods.stream().noneMatch(method -> method.getName().equals("add"))
+		);
+	}
+
+	@Test
+	public void findAllWithImmutableCriteriaTestOne() {
+		MethodCriteria addMethods = MethodCriteria.forEntireClassHierarchy().name("add").toImmutable();
+		Collection<Method> methods = new ArrayList<>(Methods.INSTANCE.findAll(addMethods, ArrayList.class));
+		MethodCriteria addMethodsWithTwoParameters = addMethods.and().parameterTypes(parameterTypes ->
+			parameterTypes.length == 2
+		);
+		addMethods.and().allThoseThatMatch(method -> false);
+		addMethods.or().name("remove");
+		addMethods.negate();
+		assertTrue(addMethods.isImmutable() && !addMethodsWithTwoParameters.isImmutable());
+		assertTrue(addMethods == addMethods.toImmutable());
+		assertTrue(methods.equals(new ArrayList<>(Methods.INSTANCE.findAll(addMethods, ArrayList.class))));
+		assertTrue(Methods.INSTANCE.findAll(addMethodsWithTwoParameters, ArrayList.class).size() < methods.size());
+	}
+
+	@Test
+	public void findAllForClassesTestOne() {
+		MethodCriteria addMethods = MethodCriteria.forEntireClassHierarchy().name(name -> name.startsWith("add"));
+		Collection<Class<?>> classes = Arrays.asList(ArrayList.class, LinkedList.class, HashSet.class);
+		Map<Class<?>, Collection<Method>> methods = Methods.INSTANCE.findAll(addMethods, classes);
+		Map<Class<?>, Collection<Method>> methodsFoundInParallel = Methods.INSTANCE.findAll(addMethods, classes, ForkJoinPool.commonPool());
+		assertTrue(new ArrayList<>(classes).equals(new ArrayList<>(methods.keySet())));
+		for (Class<?> cls : classes) {
+			Collection<Method> methodsOfClass = new ArrayList<>(Methods.INSTANCE.findAll(addMethods, cls));
+			testNotEmpty(() -> methodsOfClass);
+			assertTrue(methodsOfClass.equals(new ArrayList<>(methods.get(cls))));
+			assertTrue(methodsOfClass.equals(new ArrayList<>(methodsFoundInParallel.get(cls))));
+		}
+	}
+
+	@Test
+	public void streamTestOne() {
+		MethodCriteria addMethods = MethodCriteria.forEntireClassHierarchy().name(name -> name.startsWith("add"));
+		List<Method> methods = Methods.INSTANCE.stream(addMethods, ArrayList.class).collect(Collectors.toList());
+		testNotEmpty(() -> methods);
+		assertTrue(methods.equals(new ArrayList<>(Methods.INSTANCE.findAll(addMethods, ArrayList.class))));
+	}
+
+	@Test
+	public void streamTestTwo() {
+		AtomicInteger scannedClassesCount = new AtomicInteger();
+		MethodCriteria allMethods = MethodCriteria.forEntireClassHierarchy().skip((initialClass, cls) -> {
+			scannedClassesCount.incrementAndGet();
+			return false;
+		});
+		testNotNull(() -> Methods.INSTANCE.stream(allMethods, ArrayList.class).findFirst().orElse(null));
+		assertTrue(scannedClassesCount.get() == 1);
+	}
+
+	@Test
+	public void findAllWithEquivalentCriteriaTestOne() {
+		Collection<Method> methods = Methods.INSTANCE.findAll(
+			MethodCriteria.forEntireClassHierarchy().name("add").and().parameterTypesAreAssignableFrom(int.class, Object.class),
+			ArrayList.class
+		);
+		testNotEmpty(() -> methods);
+		assertTrue(
+			methods == Methods.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("add").and().parameterTypesAreAssignableFrom(int.class, Object.class),
+				ArrayList.class
+			)
+		);
+	}
+
+	@Test
+	public void findAllWithDeclarativeCriteriaTestOne() {
+		Collection<Method> methods = Methods.INSTANCE.findAll(
+			MethodCriteria.forEntireClassHierarchy().name("add").or().returnType(boolean.class), ArrayList.class
+		);
+		assertTrue(
+			methods.size() > Methods.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("add").and().returnType(boolean.class), ArrayList.class
+			).size()
+		);
+		testNotEmpty(() ->
+			Methods.INSTANCE.findAll(
+				MethodCriteria.forEntireClassHierarchy().annotatedWith(Test.class).and().modifiers(Modifier.PUBLIC),
+				this.getClass()
+			)
+		);
+	}
+
+	@Test
+	public void findAllOfInterfaceTestOne() {
+		Collection<Method> methods = Methods.INSTANCE.findAll(MethodCriteria.forEntireClassHierarchy().name("add"), Collection.class);
+		testNotEmpty(() -> methods);
+		methods.clear();
+		testNotEmpty(() -> Methods.INSTANCE.findAll(MethodCriteria.forEntireClassHierarchy().name("add"), Collection.class));
+	}
 }